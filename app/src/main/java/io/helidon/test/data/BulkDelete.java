@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import io.helidon.test.jakarta.EclipseLinkSessionCustomizer;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+
+/**
+ * Bulk delete of rows in bounded chunks.
+ * Each chunk is deleted in its own short transaction, so locks are held only for a single chunk
+ * and rows deleted by committed chunks stay deleted when a later chunk fails.
+ */
+public final class BulkDelete {
+
+    /**
+     * Default number of rows deleted in a single transaction.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private static final System.Logger LOGGER = System.getLogger(BulkDelete.class.getName());
+
+    private BulkDelete() {
+        throw new UnsupportedOperationException("No instances of BulkDelete are allowed");
+    }
+
+    /**
+     * Delete pokemons with provided IDs together with their {@code POKEMNON_TYPE} rows.
+     * Deleted pokemons and their trainers are evicted from the second-level cache
+     * and cached results of pokemon queries are cleared.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param ids IDs of deleted pokemons
+     * @param chunkSize maximal number of pokemons deleted in a single transaction
+     * @return number of deleted pokemons
+     */
+    public static int pokemons(EntityManager em, Collection<Integer> ids, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(String.format("Chunk size %d must be at least 1", chunkSize));
+        }
+        List<Integer> remaining = new ArrayList<>(ids);
+        int deleted = 0;
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            List<Integer> chunk = remaining.subList(from, Math.min(remaining.size(), from + chunkSize));
+            deleted += deleteChunk(em, chunk);
+        }
+        int total = deleted;
+        LOGGER.log(System.Logger.Level.DEBUG,
+                   () -> String.format("Deleted %d of %d pokemons", total, ids.size()));
+        return total;
+    }
+
+    private static int deleteChunk(EntityManager em, List<Integer> ids) {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        List<Integer> trainers;
+        int deleted;
+        try {
+            trainers = em.createQuery("SELECT DISTINCT p.trainer.id FROM Pokemon p WHERE p.id IN :ids", Integer.class)
+                    .setParameter("ids", ids)
+                    .getResultList();
+            // Join table has no entity, its rows must be deleted first
+            Query links = em.createNativeQuery("DELETE FROM POKEMNON_TYPE WHERE POKEMNON_ID IN ("
+                                                       + String.join(", ", Collections.nCopies(ids.size(), "?"))
+                                                       + ")");
+            for (int i = 0; i < ids.size(); i++) {
+                links.setParameter(i + 1, ids.get(i));
+            }
+            links.executeUpdate();
+            deleted = em.createQuery("DELETE FROM Pokemon p WHERE p.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            et.commit();
+        } catch (RuntimeException e) {
+            if (et.isActive()) {
+                et.rollback();
+            }
+            throw e;
+        } finally {
+            em.clear();
+        }
+        evict(em, ids, trainers);
+        return deleted;
+    }
+
+    // Cached trainers hold the deleted pokemons in their pokemons list
+    private static void evict(EntityManager em, List<Integer> pokemons, List<Integer> trainers) {
+        Cache cache = em.getEntityManagerFactory().getCache();
+        pokemons.forEach(id -> cache.evict(Pokemon.class, id));
+        trainers.forEach(id -> cache.evict(Trainer.class, id));
+        EclipseLinkSessionCustomizer.invalidateQueryResults(em.getEntityManagerFactory(), Pokemon.class);
+    }
+
+}
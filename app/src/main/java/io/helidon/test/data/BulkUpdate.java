@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import io.helidon.test.jakarta.EclipseLinkSessionCustomizer;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.TypeSet;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+
+/**
+ * Set-based updates of {@link Pokemon} state executed as a single {@code UPDATE} statement.
+ * Each update runs in its own transaction and increments the version of all updated pokemons,
+ * so entities read before the update and modified later fail with an optimistic lock exception
+ * instead of overwriting it. The persistence context of the entity manager is cleared, updated pokemons
+ * and trainers holding them are evicted from the second-level cache and cached pokemon query results
+ * are cleared.
+ */
+public final class BulkUpdate {
+
+    private final TypeFilter typeFilter;
+
+    private BulkUpdate(TypeFilter typeFilter) {
+        this.typeFilter = typeFilter;
+    }
+
+    /**
+     * Create bulk updates for the database of provided factory.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @return new bulk updates
+     */
+    public static BulkUpdate create(EntityManagerFactory emf) {
+        return new BulkUpdate(TypeFilter.create(emf));
+    }
+
+    /**
+     * Set whether all pokemons of the trainer are alive.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param trainer trainer ID
+     * @param alive new alive state
+     * @return number of updated pokemons
+     */
+    public int setAlive(EntityManager em, int trainer, boolean alive) {
+        return execute(em,
+                       "UPDATE Pokemon p SET p.alive = :alive, p.version = p.version + 1"
+                               + " WHERE p.trainer.id = :trainer",
+                       query -> query.setParameter("alive", alive).setParameter("trainer", trainer),
+                       cache -> cache.evict(Trainer.class, trainer));
+    }
+
+    /**
+     * Add hit points to all pokemons with at least one of provided types.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param types the types
+     * @param hp hit points added, negative value removes them
+     * @return number of updated pokemons
+     */
+    public int addHp(EntityManager em, TypeSet types, int hp) {
+        Objects.requireNonNull(types, "TypeSet is null");
+        return execute(em,
+                       "UPDATE Pokemon p SET p.hp = p.hp + :hp, p.version = p.version + 1"
+                               + " WHERE " + typeFilter.anyOfCondition(),
+                       query -> query.setParameter("hp", hp).setParameter("mask", types.mask()),
+                       cache -> cache.evict(Trainer.class));
+    }
+
+    private static int execute(EntityManager em, String jpql, Consumer<Query> parameters, Consumer<Cache> evict) {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        int updated;
+        try {
+            Query query = em.createQuery(jpql);
+            parameters.accept(query);
+            updated = query.executeUpdate();
+            et.commit();
+        } catch (RuntimeException e) {
+            if (et.isActive()) {
+                et.rollback();
+            }
+            throw e;
+        } finally {
+            em.clear();
+        }
+        // Cached trainers hold the updated pokemons in their pokemons list
+        Cache cache = em.getEntityManagerFactory().getCache();
+        cache.evict(Pokemon.class);
+        evict.accept(cache);
+        EclipseLinkSessionCustomizer.invalidateQueryResults(em.getEntityManagerFactory(), Pokemon.class);
+        return updated;
+    }
+
+}
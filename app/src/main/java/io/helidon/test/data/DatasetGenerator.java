@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+
+/**
+ * Deterministic generator of large data sets.
+ * Every entity is derived only from the seed and its ID, so the same generator always produces the same rows
+ * and any ID range can be generated independently. Types are the same as {@link InitialData#TYPES},
+ * all other entities have IDs from {@code 1} to their configured count.
+ * <p>
+ * Generated data are skewed: low team IDs have most of the trainers, few trainers own most of the pokemons
+ * and pokemon types follow the frequency of types in the games. Pokemons of a single trainer have
+ * consecutive IDs.
+ */
+public final class DatasetGenerator {
+
+    /**
+     * Generated entities in the order of their dependencies.
+     */
+    public static final List<Class<?>> ENTITIES = List.of(Type.class,
+                                                          Region.class,
+                                                          League.class,
+                                                          Team.class,
+                                                          Trainer.class,
+                                                          Pokemon.class);
+
+    private static final System.Logger LOGGER = System.getLogger(DatasetGenerator.class.getName());
+    // Relative frequency of primary and secondary types, array index matches Type ID
+    private static final int[] PRIMARY_TYPES = {0, 118, 50, 9, 42, 42, 60, 86, 46, 44, 72, 134, 103, 62, 78, 41, 45, 50, 28};
+    private static final int[] SECONDARY_TYPES = {0, 5, 30, 98, 40, 35, 15, 5, 20, 25, 15, 20, 20, 10, 40, 15, 25, 25, 40};
+    private static final String[] SPECIES = {
+            "Pikachu", "Eevee", "Magikarp", "Zubat", "Rattata", "Pidgey", "Geodude", "Meowth", "Psyduck", "Machop",
+            "Snorlax", "Charizard", "Bulbasaur", "Squirtle", "Gengar", "Onix", "Dratini", "Lapras", "Ditto", "Mew"
+    };
+    private static final String[] TRAINER_NAMES = {
+            "Ash", "Misty", "Brock", "Gary", "Jessie", "James", "Dawn", "May", "Max", "Serena",
+            "Cilan", "Iris", "Clemont", "Bonnie", "Lillie", "Kiawe", "Lana", "Mallow", "Sophocles", "Goh"
+    };
+    // Trainer and team popularity exponent, higher value means stronger skew to low IDs
+    private static final double SKEW = 2.0;
+    // Pareto shape of the pokemons count per trainer
+    private static final double OWNERSHIP_SHAPE = 1.2;
+    private static final double MAX_OWNERSHIP_WEIGHT = 1000;
+    private static final int SECONDARY_TYPE_PERCENT = 45;
+    private static final int ALIVE_PERCENT = 95;
+
+    private final long seed;
+    private final int regions;
+    private final int leagues;
+    private final int teams;
+    private final int trainers;
+    private final int pokemons;
+    private final int chunkSize;
+    // Index of the first pokemon of each trainer, last element is the pokemons count
+    private final int[] firstPokemon;
+
+    private DatasetGenerator(Builder builder, int leagues, int teams, int trainers) {
+        this.seed = builder.seed;
+        this.regions = builder.regions;
+        this.leagues = leagues;
+        this.teams = teams;
+        this.trainers = trainers;
+        this.pokemons = builder.pokemons;
+        this.chunkSize = builder.chunkSize;
+        this.firstPokemon = ownership();
+    }
+
+    /**
+     * Create new generator builder.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of generated entities of provided class.
+     *
+     * @param entity entity class from {@link #ENTITIES}
+     * @return the entities count
+     */
+    public int count(Class<?> entity) {
+        if (entity == Type.class) {
+            return InitialData.TYPES.length - 1;
+        } else if (entity == Region.class) {
+            return regions;
+        } else if (entity == League.class) {
+            return leagues;
+        } else if (entity == Team.class) {
+            return teams;
+        } else if (entity == Trainer.class) {
+            return trainers;
+        } else if (entity == Pokemon.class) {
+            return pokemons;
+        }
+        throw new IllegalArgumentException(String.format("Entity %s is not generated", entity.getName()));
+    }
+
+    /**
+     * Number of entities persisted in a single transaction.
+     *
+     * @return the chunk size
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Generate entity with provided ID.
+     *
+     * @param entity entity class from {@link #ENTITIES}
+     * @param id entity ID
+     * @param references source of related entities
+     * @param <T> entity type
+     * @return new entity
+     */
+    public <T> T create(Class<T> entity, int id, References references) {
+        if (id < 1 || id > count(entity)) {
+            throw new IllegalArgumentException(
+                    String.format("%s ID %d is out of generated range 1..%d", entity.getSimpleName(), id, count(entity)));
+        }
+        SplittableRandom random = random(entity, id);
+        Object created;
+        if (entity == Type.class) {
+            created = new Type(id, InitialData.TYPES[id].getName());
+        } else if (entity == Region.class) {
+            created = new Region(id, "Region " + id);
+        } else if (entity == League.class) {
+            created = new League(id, "League " + id, references.get(Region.class, (id - 1) % regions + 1));
+        } else if (entity == Team.class) {
+            created = new Team(id, "Team " + id);
+        } else if (entity == Trainer.class) {
+            created = new Trainer(id,
+                                  TRAINER_NAMES[random.nextInt(TRAINER_NAMES.length)] + " " + id,
+                                  references.get(Team.class, skewed(random, teams)));
+        } else {
+            created = pokemon(id, random, references);
+        }
+        return entity.cast(created);
+    }
+
+    /**
+     * ID of the trainer of provided pokemon.
+     *
+     * @param pokemonId pokemon ID
+     * @return the trainer ID
+     */
+    public int trainerOf(int pokemonId) {
+        int index = pokemonId - 1;
+        // Last trainer whose first pokemon is not above the index, trainers may have no pokemons
+        int low = 0;
+        int high = trainers - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (firstPokemon[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Persist all generated entities.
+     * Entities are persisted in dependency order in transactions of {@link #chunkSize()} entities,
+     * persistence context is cleared after each transaction.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @return number of persisted entities
+     */
+    public long load(EntityManager em) {
+        long count = 0;
+        for (Class<?> entity : ENTITIES) {
+            count += load(em, entity, 1, count(entity));
+        }
+        return count;
+    }
+
+    /**
+     * Persist generated entities of a single class with IDs from provided range.
+     * Entities are persisted in transactions of {@link #chunkSize()} entities, persistence context
+     * is cleared after each transaction. Related entities must already be stored in the database.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param entity entity class from {@link #ENTITIES}
+     * @param fromId first ID, inclusive
+     * @param toId last ID, inclusive
+     * @return number of persisted entities
+     */
+    public int load(EntityManager em, Class<?> entity, int fromId, int toId) {
+        LOGGER.log(System.Logger.Level.DEBUG,
+                   () -> String.format("Loading %s %d..%d", entity.getSimpleName(), fromId, toId));
+        ChunkReferences references = new ChunkReferences(em);
+        int count = 0;
+        for (int chunkStart = fromId; chunkStart <= toId; chunkStart += chunkSize) {
+            int chunkEnd = Math.min(toId, chunkStart + chunkSize - 1);
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                for (int id = chunkStart; id <= chunkEnd; id++) {
+                    em.persist(create(entity, id, references));
+                }
+                em.flush();
+                et.commit();
+            } catch (RuntimeException e) {
+                if (et.isActive()) {
+                    et.rollback();
+                }
+                throw e;
+            } finally {
+                em.clear();
+                references.clear();
+            }
+            count += chunkEnd - chunkStart + 1;
+        }
+        return count;
+    }
+
+    private Pokemon pokemon(int id, SplittableRandom random, References references) {
+        int primary = weighted(random, PRIMARY_TYPES, 0);
+        List<Type> types = random.nextInt(100) < SECONDARY_TYPE_PERCENT
+                ? List.of(references.get(Type.class, primary),
+                          references.get(Type.class, weighted(random, SECONDARY_TYPES, primary)))
+                : List.of(references.get(Type.class, primary));
+        int hp = (int) Math.max(10, Math.min(300, Math.round(100 + 40 * random.nextGaussian())));
+        return new Pokemon(id,
+                           references.get(Trainer.class, trainerOf(id)),
+                           SPECIES[skewed(random, SPECIES.length) - 1],
+                           hp,
+                           random.nextInt(100) < ALIVE_PERCENT,
+                           types);
+    }
+
+    // Each trainer gets Pareto distributed share of the pokemons
+    private int[] ownership() {
+        double total = 0;
+        for (int trainer = 1; trainer <= trainers; trainer++) {
+            total += ownershipWeight(trainer);
+        }
+        int[] first = new int[trainers + 1];
+        double cumulative = 0;
+        for (int trainer = 1; trainer <= trainers; trainer++) {
+            first[trainer - 1] = (int) Math.round(pokemons * cumulative / total);
+            cumulative += ownershipWeight(trainer);
+        }
+        first[trainers] = pokemons;
+        return first;
+    }
+
+    private double ownershipWeight(int trainer) {
+        double uniform = 1.0 - random(Trainer.class, -trainer).nextDouble();
+        return Math.min(MAX_OWNERSHIP_WEIGHT, Math.pow(uniform, -1.0 / OWNERSHIP_SHAPE));
+    }
+
+    // Generator of each entity depends only on the seed, the entity class and the entity ID
+    private SplittableRandom random(Class<?> entity, int id) {
+        long key = seed;
+        key = key * 0x9E3779B97F4A7C15L + ENTITIES.indexOf(entity);
+        key = key * 0x9E3779B97F4A7C15L + id;
+        return new SplittableRandom(key);
+    }
+
+    // Value from 1 to count, low values are more likely
+    private static int skewed(SplittableRandom random, int count) {
+        return 1 + (int) (count * Math.pow(random.nextDouble(), SKEW));
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights, int excluded) {
+        int total = 0;
+        for (int i = 1; i < weights.length; i++) {
+            total += i == excluded ? 0 : weights[i];
+        }
+        int value = random.nextInt(total);
+        for (int i = 1; i < weights.length; i++) {
+            value -= i == excluded ? 0 : weights[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Weighted value out of range");
+    }
+
+    /**
+     * Source of related entities of generated entities.
+     */
+    @FunctionalInterface
+    public interface References {
+
+        /**
+         * Related entity with provided ID.
+         *
+         * @param entity entity class
+         * @param id entity ID
+         * @param <T> entity type
+         * @return the entity
+         */
+        <T> T get(Class<T> entity, int id);
+
+    }
+
+    // Related entities are found once in each chunk, they are detached when the chunk is cleared
+    private static final class ChunkReferences implements References {
+
+        private final EntityManager em;
+        private final Map<Class<?>, Map<Integer, Object>> entities;
+
+        private ChunkReferences(EntityManager em) {
+            this.em = em;
+            this.entities = new HashMap<>();
+        }
+
+        @Override
+        public <T> T get(Class<T> entity, int id) {
+            Object found = entities.computeIfAbsent(entity, key -> new HashMap<>())
+                    .computeIfAbsent(id, key -> em.find(entity, key));
+            if (found == null) {
+                throw new IllegalStateException(
+                        String.format("%s with ID %d is not stored in the database", entity.getSimpleName(), id));
+            }
+            return entity.cast(found);
+        }
+
+        private void clear() {
+            entities.clear();
+        }
+
+    }
+
+    /**
+     * {@link DatasetGenerator} builder.
+     * Counts not set explicitly are derived from the pokemons count.
+     */
+    public static final class Builder {
+
+        private long seed;
+        private int regions;
+        private int leagues;
+        private int teams;
+        private int trainers;
+        private int pokemons;
+        private int chunkSize;
+
+        private Builder() {
+            this.seed = 0;
+            this.regions = 10;
+            this.leagues = -1;
+            this.teams = -1;
+            this.trainers = -1;
+            this.pokemons = 1_000_000;
+            this.chunkSize = 1000;
+        }
+
+        /**
+         * Seed of the generated data.
+         *
+         * @param seed the seed
+         * @return updated builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Number of regions, {@code 10} by default.
+         *
+         * @param regions the regions count
+         * @return updated builder
+         */
+        public Builder regions(int regions) {
+            this.regions = regions;
+            return this;
+        }
+
+        /**
+         * Number of leagues, the regions count by default.
+         *
+         * @param leagues the leagues count
+         * @return updated builder
+         */
+        public Builder leagues(int leagues) {
+            this.leagues = leagues;
+            return this;
+        }
+
+        /**
+         * Number of teams, one for each {@code 100} trainers by default.
+         *
+         * @param teams the teams count
+         * @return updated builder
+         */
+        public Builder teams(int teams) {
+            this.teams = teams;
+            return this;
+        }
+
+        /**
+         * Number of trainers, one for each {@code 20} pokemons by default.
+         *
+         * @param trainers the trainers count
+         * @return updated builder
+         */
+        public Builder trainers(int trainers) {
+            this.trainers = trainers;
+            return this;
+        }
+
+        /**
+         * Number of pokemons, {@code 1000000} by default.
+         *
+         * @param pokemons the pokemons count
+         * @return updated builder
+         */
+        public Builder pokemons(int pokemons) {
+            this.pokemons = pokemons;
+            return this;
+        }
+
+        /**
+         * Number of entities persisted in a single transaction, {@code 1000} by default.
+         *
+         * @param chunkSize the chunk size
+         * @return updated builder
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Create new generator.
+         *
+         * @return new generator
+         */
+        public DatasetGenerator build() {
+            // Derived counts are not stored, so the builder can be reused with other counts
+            int trainers = this.trainers < 0 ? Math.max(1, pokemons / 20) : this.trainers;
+            int teams = this.teams < 0 ? Math.max(1, trainers / 100) : this.teams;
+            int leagues = this.leagues < 0 ? regions : this.leagues;
+            positive("regions", regions);
+            positive("teams", teams);
+            positive("trainers", trainers);
+            positive("chunk size", chunkSize);
+            if (pokemons < 0) {
+                throw new IllegalArgumentException(String.format("Generated pokemons %d must not be negative", pokemons));
+            }
+            return new DatasetGenerator(this, leagues, teams, trainers);
+        }
+
+        private static void positive(String name, int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException(String.format("Generated %s %d must be at least 1", name, value));
+            }
+        }
+
+    }
+
+}
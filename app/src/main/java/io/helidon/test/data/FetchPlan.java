@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Subgraph;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.eclipse.persistence.queries.FetchGroupTracker;
+
+/**
+ * Named entity graph of the model applied to a single query or find call.
+ * Relationships of the graph are also read in batches using {@code IN} lists. EclipseLink loads eager
+ * relationships, and lazy ones without weaving, by a query per entity. Batch reading replaces
+ * those queries by a single query for each relationship in the graph.
+ *
+ * @param <T> root entity type
+ */
+public final class FetchPlan<T> {
+
+    /**
+     * Pokemon list view, pokemons with types, trainer and team.
+     */
+    public static final FetchPlan<Pokemon> POKEMON_LIST = new FetchPlan<>(Pokemon.class, "Pokemon.list");
+    /**
+     * Pokemon detail view, list view with all pokemons of the trainer.
+     */
+    public static final FetchPlan<Pokemon> POKEMON_DETAIL = new FetchPlan<>(Pokemon.class, "Pokemon.detail");
+    /**
+     * Trainer roster, trainers with team and all pokemons with types.
+     */
+    public static final FetchPlan<Trainer> TRAINER_ROSTER = new FetchPlan<>(Trainer.class, "Trainer.roster");
+
+    private static final String BATCH_HINT = "eclipselink.batch";
+    private static final String BATCH_TYPE_HINT = "eclipselink.batch.type";
+    private static final String JOIN_FETCH_HINT = "eclipselink.left-join-fetch";
+    private static final String ALIAS = "e";
+    // First element of batch and join fetch hint path is the query alias, EclipseLink ignores its value
+    private static final String PATH_ALIAS = ALIAS + ".";
+
+    private final Class<T> entity;
+    private final String graph;
+
+    private FetchPlan(Class<T> entity, String graph) {
+        this.entity = entity;
+        this.graph = graph;
+    }
+
+    /**
+     * Root entity class.
+     *
+     * @return the entity class
+     */
+    public Class<T> entity() {
+        return entity;
+    }
+
+    /**
+     * Named entity graph name.
+     *
+     * @return the graph name
+     */
+    public String graph() {
+        return graph;
+    }
+
+    /**
+     * Apply the graph as a fetch graph. Attributes outside the graph are treated as lazy
+     * where the persistence provider supports it. EclipseLink entities which are not woven
+     * get the graph as a load graph.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param query query returning the root entity
+     * @param <R> query result type
+     * @return the query
+     */
+    public <R extends T> TypedQuery<R> fetch(EntityManager em, TypedQuery<R> query) {
+        return apply(em, query, Mode.FETCH);
+    }
+
+    /**
+     * Apply the graph as a load graph. Attributes outside the graph keep their mapped fetch type.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param query query returning the root entity
+     * @param <R> query result type
+     * @return the query
+     */
+    public <R extends T> TypedQuery<R> load(EntityManager em, TypedQuery<R> query) {
+        return apply(em, query, Mode.LOAD);
+    }
+
+    /**
+     * Find entity by its primary key with the graph applied.
+     * EclipseLink does not batch read relationships of a single entity, so the relationships of the graph
+     * are join fetched by the query reading the entity.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param id primary key
+     * @param mode how the graph is applied
+     * @return the entity or {@code null} when not found
+     */
+    public T find(EntityManager em, Object id, Mode mode) {
+        // Find properties are a map, which can't hold the repeated join fetch hint
+        EntityType<T> type = em.getMetamodel().entity(entity);
+        // Id type of the metamodel may be primitive, so the attribute is not looked up by its type
+        String idAttribute = type.getSingularAttributes()
+                .stream()
+                .filter(SingularAttribute::isId)
+                .findFirst()
+                .map(Attribute::getName)
+                .orElseThrow(() -> new IllegalArgumentException("Entity " + type.getName() + " has no single id"));
+        TypedQuery<T> query = em.createQuery("SELECT " + ALIAS + " FROM " + type.getName() + " " + ALIAS
+                                                     + " WHERE " + ALIAS + "." + idAttribute + " = :id", entity)
+                .setParameter("id", id);
+        apply(em, query, mode, JOIN_FETCH_HINT);
+        return query.getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Apply the graph to the query.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param query query returning the root entity
+     * @param mode how the graph is applied
+     * @param <R> query result type
+     * @return the query
+     */
+    public <R extends T> TypedQuery<R> apply(EntityManager em, TypedQuery<R> query, Mode mode) {
+        List<String> paths = apply(em, query, mode, BATCH_HINT);
+        if (!paths.isEmpty()) {
+            query.setHint(BATCH_TYPE_HINT, "IN");
+        }
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return entity.getSimpleName() + " {graph=" + graph + "}";
+    }
+
+    // Sets the graph and the path hint for each relationship of the graph, returns the relationship paths
+    private <R extends T> List<String> apply(EntityManager em, TypedQuery<R> query, Mode mode, String pathHint) {
+        Objects.requireNonNull(mode, "Mode is null");
+        EntityGraph<?> entityGraph = em.getEntityGraph(graph);
+        // Fetch groups of EclipseLink require woven entities, load graph is the closest alternative
+        boolean fetchGroups = FetchGroupTracker.class.isAssignableFrom(entity);
+        query.setHint(mode == Mode.FETCH && !fetchGroups ? Mode.LOAD.hint : mode.hint, entityGraph);
+        List<String> paths = new ArrayList<>();
+        Metamodel metamodel = em.getMetamodel();
+        relationships(metamodel, metamodel.managedType(entity), "", entityGraph.getAttributeNodes(), paths);
+        for (String path : paths) {
+            query.setHint(pathHint, PATH_ALIAS + path);
+        }
+        return paths;
+    }
+
+    // Parent paths are added before nested paths, basic attributes are not batch read
+    private static void relationships(Metamodel metamodel,
+                                      ManagedType<?> type,
+                                      String prefix,
+                                      List<AttributeNode<?>> nodes,
+                                      List<String> paths) {
+        for (AttributeNode<?> node : nodes) {
+            Attribute<?, ?> attribute = type.getAttribute(node.getAttributeName());
+            if (!attribute.isAssociation()) {
+                continue;
+            }
+            String path = prefix + node.getAttributeName();
+            paths.add(path);
+            // Subgraph class type is not known for graphs of the annotations, target is taken from the attribute
+            Class<?> target = attribute instanceof PluralAttribute<?, ?, ?> plural
+                    ? plural.getElementType().getJavaType()
+                    : attribute.getJavaType();
+            for (Subgraph<?> subgraph : node.getSubgraphs().values()) {
+                relationships(metamodel,
+                              metamodel.managedType(target),
+                              path + ".",
+                              subgraph.getAttributeNodes(),
+                              paths);
+            }
+        }
+    }
+
+    /**
+     * How the graph is applied.
+     */
+    public enum Mode {
+        /**
+         * Graph is the fetch graph.
+         */
+        FETCH("jakarta.persistence.fetchgraph"),
+        /**
+         * Graph is the load graph.
+         */
+        LOAD("jakarta.persistence.loadgraph");
+
+        private final String hint;
+
+        Mode(String hint) {
+            this.hint = hint;
+        }
+
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.helidon.test.model.Creature;
+import io.helidon.test.model.IdSequence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Pooled (hi-lo) allocator of entity IDs backed by the {@link IdSequence} table.
+ * Each allocator reserves blocks of IDs in the sequence table with a single short transaction
+ * and hands them out from memory, so allocators of several nodes sharing the database never return
+ * the same ID. Threads take IDs from the current block with an atomic increment. The thread which
+ * exhausts the block reserves the next one, other threads wait for it only at the block boundary.
+ * <p>
+ * IDs are assigned before the entity is persisted, so inserts are still grouped by batch writing.
+ * Sequence of an entity starts after the highest ID stored when it is used for the first time,
+ * entities with manually assigned IDs must not be inserted afterwards. IDs of a block which was not
+ * used up are skipped when the allocator is discarded.
+ * <p>
+ * {@link #reset(EntityManager)} deletes the sequence rows, so sequences start again after the highest stored ID,
+ * e.g. after {@link Snapshot#restore(EntityManager, java.nio.file.Path)}. Allocators created before the reset keep
+ * handing out IDs of their cached blocks, which may collide with stored rows, so they must be discarded.
+ */
+public final class IdAllocator {
+
+    private static final System.Logger LOGGER = System.getLogger(IdAllocator.class.getName());
+    // Concurrent creation of the sequence row fails on primary key in all but one node
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final EntityManagerFactory emf;
+    private final int blockSize;
+    private final Map<Class<?>, Sequence> sequences;
+    private final LongAdder blocks;
+
+    private IdAllocator(Builder builder) {
+        this.emf = builder.emf;
+        this.blockSize = builder.blockSize;
+        this.sequences = new ConcurrentHashMap<>();
+        this.blocks = new LongAdder();
+    }
+
+    /**
+     * Create new allocator builder.
+     *
+     * @param emf JPA {@link EntityManagerFactory} with resource local transactions
+     * @return new builder
+     */
+    public static Builder builder(EntityManagerFactory emf) {
+        return new Builder(emf);
+    }
+
+    /**
+     * Delete all sequence rows, so each sequence starts again after the highest stored ID of its entity.
+     * Allocators created before the reset must be discarded.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @return number of deleted sequences
+     */
+    public static int reset(EntityManager em) {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        try {
+            int deleted = em.createQuery("DELETE FROM IdSequence s").executeUpdate();
+            et.commit();
+            LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Reset %d ID sequences", deleted));
+            return deleted;
+        } finally {
+            if (et.isActive()) {
+                et.rollback();
+            }
+        }
+    }
+
+    /**
+     * Allocate next ID of provided entity.
+     *
+     * @param entity entity class with {@code int} ID attribute {@code id}
+     * @return ID not returned before by any allocator of the entity
+     * @throws IllegalArgumentException when the class is not an entity
+     * @throws IllegalStateException when IDs of the entity are exhausted
+     */
+    public int next(Class<?> entity) {
+        return sequences.computeIfAbsent(entity, this::sequence).next();
+    }
+
+    /**
+     * Assign next ID of its entity to provided creature.
+     *
+     * @param creature creature to persist
+     * @param <T> creature type
+     * @return the creature with assigned ID
+     */
+    public <T extends Creature> T assign(T creature) {
+        creature.setId(next(creature.getClass()));
+        return creature;
+    }
+
+    /**
+     * Number of ID blocks in each allocation.
+     *
+     * @return the block size
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Number of blocks reserved in the sequence table.
+     *
+     * @return the blocks count
+     */
+    public long blocks() {
+        return blocks.sum();
+    }
+
+    private Sequence sequence(Class<?> entity) {
+        // Validates that the class is an entity
+        String name = emf.getMetamodel().entity(entity).getName();
+        return new Sequence(() -> reserve(name));
+    }
+
+    // Moves the sequence value by a whole block in its own transaction
+    private Block reserve(String name) {
+        try (EntityManager em = emf.createEntityManager()) {
+            for (int attempt = 1; ; attempt++) {
+                EntityTransaction et = em.getTransaction();
+                et.begin();
+                try {
+                    int updated = em.createQuery("UPDATE IdSequence s SET s.value = s.value + :size"
+                                                         + " WHERE s.name = :name")
+                            .setParameter("size", (long) blockSize)
+                            .setParameter("name", name)
+                            .executeUpdate();
+                    if (updated == 0) {
+                        Number max = em.createQuery("SELECT MAX(e.id) FROM " + name + " e", Number.class)
+                                .getSingleResult();
+                        em.persist(new IdSequence(name, (max == null ? 0L : max.longValue()) + blockSize));
+                        em.flush();
+                    }
+                    long last = em.createQuery("SELECT s.value FROM IdSequence s WHERE s.name = :name", Long.class)
+                            .setParameter("name", name)
+                            .getSingleResult();
+                    et.commit();
+                    if (last > Integer.MAX_VALUE) {
+                        throw new IllegalStateException(String.format("IDs of %s entity are exhausted", name));
+                    }
+                    blocks.increment();
+                    LOGGER.log(System.Logger.Level.DEBUG,
+                               () -> String.format("Reserved %s IDs %d - %d", name, last - blockSize + 1, last));
+                    return new Block(last - blockSize + 1, last);
+                } catch (PersistenceException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    LOGGER.log(System.Logger.Level.DEBUG,
+                               () -> String.format("Reservation of %s IDs failed, retrying", name), e);
+                } finally {
+                    if (et.isActive()) {
+                        et.rollback();
+                    }
+                    em.clear();
+                }
+            }
+        }
+    }
+
+    // IDs of an entity, current block is replaced by its successor once exhausted
+    private static final class Sequence {
+
+        private final Supplier<Block> reserve;
+        private final AtomicReference<Block> current;
+
+        private Sequence(Supplier<Block> reserve) {
+            this.reserve = reserve;
+            // Exhausted block, so the first call reserves a block
+            this.current = new AtomicReference<>(new Block(1, 0));
+        }
+
+        private int next() {
+            Block block = current.get();
+            while (true) {
+                long id = block.next.getAndIncrement();
+                if (id <= block.last) {
+                    return (int) id;
+                }
+                current.compareAndSet(block, block.successor(reserve));
+                block = current.get();
+            }
+        }
+
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long last;
+        private final AtomicReference<CompletableFuture<Block>> successor;
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+            this.successor = new AtomicReference<>();
+        }
+
+        // Only one thread reserves the successor, the others wait for its result
+        private Block successor(Supplier<Block> reserve) {
+            while (true) {
+                CompletableFuture<Block> future = successor.get();
+                if (future == null) {
+                    CompletableFuture<Block> reservation = new CompletableFuture<>();
+                    if (successor.compareAndSet(null, reservation)) {
+                        try {
+                            Block block = reserve.get();
+                            reservation.complete(block);
+                            return block;
+                        } catch (RuntimeException e) {
+                            // Next caller tries again
+                            successor.set(null);
+                            reservation.completeExceptionally(e);
+                            throw e;
+                        }
+                    }
+                    continue;
+                }
+                try {
+                    return future.join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * {@link IdAllocator} builder.
+     */
+    public static final class Builder {
+
+        private final EntityManagerFactory emf;
+        private int blockSize;
+
+        private Builder(EntityManagerFactory emf) {
+            this.emf = Objects.requireNonNull(emf, "Entity manager factory is null");
+            this.blockSize = 1000;
+        }
+
+        /**
+         * Number of IDs reserved in the sequence table at once, {@code 1000} by default.
+         * Larger blocks mean fewer sequence table updates and more IDs skipped on restart.
+         *
+         * @param blockSize the block size
+         * @return updated builder
+         */
+        public Builder blockSize(int blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * Create new allocator.
+         *
+         * @return new allocator
+         */
+        public IdAllocator build() {
+            if (blockSize < 1) {
+                throw new IllegalArgumentException(
+                        String.format("Block size %d must be at least 1", blockSize));
+            }
+            return new IdAllocator(this);
+        }
+
+    }
+
+}
@@ -15,8 +15,12 @@
  */
 package io.helidon.test.data;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import io.helidon.test.model.League;
 import io.helidon.test.model.Pokemon;
@@ -26,10 +30,13 @@ import io.helidon.test.model.Trainer;
 import io.helidon.test.model.Type;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
 
 public class InitialData {
 
     private static final System.Logger LOGGER = System.getLogger(InitialData.class.getName());
+    private static final String FETCH_SIZE_HINT = "eclipselink.jdbc.fetch-size";
+    private static final int VERIFY_PAGE_SIZE = 1000;
 
     private InitialData() {
         throw new UnsupportedOperationException("No instances of Data are allowed");
@@ -189,22 +196,170 @@ public class InitialData {
     }
 
     /**
-     * Verify database data
+     * Initialize database data in batches.
+     * Persistence context is flushed after each {@code batchSize} entities so the provider can send
+     * inserts of the same table to the database in JDBC batches of the same size.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager}
+     * @param batchSize number of entities persisted between flushes
+     */
+    public static void init(EntityManager em, int batchSize) {
+        LOGGER.log(System.Logger.Level.DEBUG, String.format("Data initialization, batch size %d", batchSize));
+        Stream<Object> entities = Stream.of(TYPES, REGIONS, LEAGUES, TEAMS, TRAINERS, POKEMONS)
+                .flatMap(array -> Arrays.stream(array, 1, array.length));
+        persist(em, entities.iterator(), batchSize);
+    }
+
+    /**
+     * Initialize database with generated data set instead of the fixed data.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager} with resource local transactions
+     * @param generator data set generator
+     * @return number of persisted entities
+     * @see DatasetGenerator#load(EntityManager)
      */
-    public static void verify(EntityManager em) {
+    public static long init(EntityManager em, DatasetGenerator generator) {
+        LOGGER.log(System.Logger.Level.DEBUG, "Generated data initialization");
+        return generator.load(em);
+    }
+
+    /**
+     * Persist entities in batches.
+     * Persistence context is flushed after each {@code batchSize} entities and once more at the end.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager}
+     * @param entities entities to persist
+     * @param batchSize number of entities persisted between flushes
+     * @return number of persisted entities
+     */
+    public static int persist(EntityManager em, Iterator<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("Batch size %d must be at least 1", batchSize));
+        }
+        int count = 0;
+        while (entities.hasNext()) {
+            em.persist(entities.next());
+            if (++count % batchSize == 0) {
+                em.flush();
+            }
+        }
+        if (count % batchSize != 0) {
+            em.flush();
+        }
+        return count;
+    }
+
+    /**
+     * Verify database data.
+     * Database content is compared with the fixed data using {@link #checksums(EntityManager, int)}
+     * with the default page size.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager}
+     * @return value of {@code true} when the database contains exactly the fixed data
+     */
+    public static boolean verify(EntityManager em) {
+        return verify(em, VERIFY_PAGE_SIZE);
+    }
+
+    /**
+     * Verify database data.
+     * Database content is compared with the fixed data using {@link #checksums(EntityManager, int)}.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager}
+     * @param pageSize number of rows read at once
+     * @return value of {@code true} when the database contains exactly the fixed data
+     */
+    public static boolean verify(EntityManager em, int pageSize) {
         LOGGER.log(System.Logger.Level.DEBUG, "Data verification");
-        List<Pokemon> pokemons = em.createQuery("SELECT p FROM Pokemon p", Pokemon.class)
-                .getResultList();
-        LOGGER.log(System.Logger.Level.DEBUG, String.format(" - pokemons: %d", pokemons.size()));
+        Map<Class<?>, TableChecksum> expected = checksums();
+        Map<Class<?>, TableChecksum> actual = checksums(em, pageSize);
+        boolean valid = true;
+        for (Class<?> entity : DatasetGenerator.ENTITIES) {
+            TableChecksum table = actual.get(entity);
+            LOGGER.log(System.Logger.Level.DEBUG, String.format(" - %s", table));
+            if (!table.equals(expected.get(entity))) {
+                LOGGER.log(System.Logger.Level.WARNING,
+                           String.format("Table %s does not match, expected %s", table, expected.get(entity)));
+                valid = false;
+            }
+        }
+        return valid;
     }
 
     /**
-     * Delete temporary data.
+     * Checksums of the fixed data.
+     *
+     * @return checksums mapped by entity class
+     */
+    public static Map<Class<?>, TableChecksum> checksums() {
+        Map<Class<?>, TableChecksum> checksums = new LinkedHashMap<>();
+        List.of(TYPES, REGIONS, LEAGUES, TEAMS, TRAINERS, POKEMONS).forEach(array -> {
+            TableChecksum checksum = TableChecksum.empty(array.getClass().getComponentType());
+            for (int i = 1; i < array.length; i++) {
+                checksum = checksum.add(array[i]);
+            }
+            checksums.put(checksum.entity(), checksum);
+        });
+        return checksums;
+    }
+
+    /**
+     * Checksums of the database data.
+     * Each table is read in pages ordered by ID, each page is streamed and the persistence context
+     * is cleared after it, so memory use does not depend on the table size. Pending changes are flushed
+     * by the first query.
      *
      * @param em JPA {@link jakarta.persistence.EntityManager}
+     * @param pageSize number of rows read at once, also used as the JDBC fetch size
+     * @return checksums mapped by entity class
+     */
+    public static Map<Class<?>, TableChecksum> checksums(EntityManager em, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException(String.format("Page size %d must be at least 1", pageSize));
+        }
+        Map<Class<?>, TableChecksum> checksums = new LinkedHashMap<>();
+        for (Class<?> entity : DatasetGenerator.ENTITIES) {
+            checksums.put(entity, checksum(em, entity, pageSize));
+        }
+        return checksums;
+    }
+
+    // Keyset pagination keeps each query cheap regardless of its offset in the table
+    private static TableChecksum checksum(EntityManager em, Class<?> entity, int pageSize) {
+        PersistenceUnitUtil util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+        String jpql = "SELECT e FROM " + entity.getSimpleName() + " e WHERE e.id > :last ORDER BY e.id";
+        TableChecksum checksum = TableChecksum.empty(entity);
+        int last = Integer.MIN_VALUE;
+        int rows;
+        do {
+            rows = 0;
+            try (Stream<?> page = em.createQuery(jpql, entity)
+                    .setParameter("last", last)
+                    .setMaxResults(pageSize)
+                    .setHint(FETCH_SIZE_HINT, pageSize)
+                    .getResultStream()) {
+                Iterator<?> iterator = page.iterator();
+                while (iterator.hasNext()) {
+                    Object row = iterator.next();
+                    checksum = checksum.add(row);
+                    last = (Integer) util.getIdentifier(row);
+                    rows++;
+                }
+            }
+            em.clear();
+        } while (rows == pageSize);
+        return checksum;
+    }
+
+    /**
+     * Delete temporary data.
+     * Pokemons from {@link #NEW_POKEMONS} are deleted in chunks of {@link BulkDelete#DEFAULT_CHUNK_SIZE}.
+     *
+     * @param em JPA {@link jakarta.persistence.EntityManager} with resource local transactions
+     * @return number of deleted pokemons
      */
-    public static void deleteTemp(EntityManager em) {
-        em.createNamedQuery("Pokemon.deleteTemp").executeUpdate();
+    public static int deleteTemp(EntityManager em) {
+        return BulkDelete.pokemons(em, NEW_POKEMONS.keySet(), BulkDelete.DEFAULT_CHUNK_SIZE);
     }
 
 }
@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import io.helidon.test.model.Creature;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Keyset (seek) pagination over entities keyed by {@link Creature} ID.
+ * Each page continues after the sort keys of the last entity of the previous page, so the cost of a page
+ * does not depend on its depth, unlike {@code OFFSET} paging. Entity ID is always the last sort key,
+ * so the order is total and stable. Sort keys must not be nullable.
+ * <pre>{@code
+ * KeysetPager<Pokemon> pager = KeysetPager.builder(Pokemon.class)
+ *         .where("e.alive = :alive")
+ *         .parameter("alive", true)
+ *         .sortBy("hp", KeysetPager.Direction.DESC)
+ *         .pageSize(50)
+ *         .build();
+ * Page<Pokemon> page = pager.first(em);
+ * Page<Pokemon> next = pager.next(em, page.next().orElseThrow());
+ * }</pre>
+ * Continuation tokens are opaque URL-safe strings. Token is accepted only by a pager with the same entity,
+ * filter and sort keys.
+ *
+ * @param <T> entity type
+ */
+public final class KeysetPager<T extends Creature> {
+
+    /**
+     * Entity alias used in the filter.
+     */
+    public static final String ALIAS = "e";
+
+    private static final byte TOKEN_VERSION = 1;
+    private static final Pattern ATTRIBUTE = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final String ID = "id";
+    private static final String KEY_PARAMETER = "keysetKey";
+    private static final byte INTEGER = 'I';
+    private static final byte LONG = 'J';
+    private static final byte STRING = 'S';
+    private static final byte BOOLEAN = 'Z';
+
+    private final Class<T> entity;
+    private final String where;
+    private final Map<String, Object> parameters;
+    private final List<SortKey> keys;
+    private final int pageSize;
+    private final int fingerprint;
+    private final String firstQuery;
+    private final String nextQuery;
+
+    private KeysetPager(Builder<T> builder) {
+        this.entity = builder.entity;
+        this.where = builder.where;
+        this.parameters = Map.copyOf(builder.parameters);
+        List<SortKey> keys = new ArrayList<>(builder.keys);
+        keys.add(new SortKey(ID, Direction.ASC));
+        this.keys = List.copyOf(keys);
+        this.pageSize = builder.pageSize;
+        this.firstQuery = query(false);
+        this.nextQuery = query(true);
+        // Query text covers entity, filter and sort keys and its hash is the same in all JVMs
+        this.fingerprint = nextQuery.hashCode();
+    }
+
+    /**
+     * Create new pager builder.
+     *
+     * @param entity entity class
+     * @param <T> entity type
+     * @return new builder
+     */
+    public static <T extends Creature> Builder<T> builder(Class<T> entity) {
+        return new Builder<>(entity);
+    }
+
+    /**
+     * Read the first page.
+     *
+     * @param em JPA {@link EntityManager}
+     * @return the first page
+     */
+    public Page<T> first(EntityManager em) {
+        return page(em.createQuery(firstQuery, Object[].class));
+    }
+
+    /**
+     * Read the page following the page which returned provided token.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param token continuation token from {@link Page#next()}
+     * @return the next page
+     * @throws IllegalArgumentException when the token is not valid for this pager
+     */
+    public Page<T> next(EntityManager em, String token) {
+        Object[] values = decode(token);
+        TypedQuery<Object[]> query = em.createQuery(nextQuery, Object[].class);
+        for (int i = 0; i < values.length; i++) {
+            query.setParameter(KEY_PARAMETER + i, values[i]);
+        }
+        return page(query);
+    }
+
+    /**
+     * Number of entities in a full page.
+     *
+     * @return the page size
+     */
+    public int pageSize() {
+        return pageSize;
+    }
+
+    // Sort key values are selected with the entity, so no reflection is needed to build the token
+    private String query(boolean seek) {
+        StringBuilder sb = new StringBuilder("SELECT ").append(ALIAS);
+        for (SortKey key : keys) {
+            sb.append(", ").append(ALIAS).append('.').append(key.attribute);
+        }
+        sb.append(" FROM ").append(entity.getSimpleName()).append(' ').append(ALIAS);
+        List<String> predicates = new ArrayList<>();
+        if (where != null) {
+            predicates.add("(" + where + ")");
+        }
+        if (seek) {
+            predicates.add(seekPredicate());
+        }
+        if (!predicates.isEmpty()) {
+            sb.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            SortKey key = keys.get(i);
+            sb.append(i == 0 ? "" : ", ")
+                    .append(ALIAS).append('.').append(key.attribute)
+                    .append(' ').append(key.direction);
+        }
+        return sb.toString();
+    }
+
+    // (k0 > :v0) OR (k0 = :v0 AND k1 > :v1) OR ... with < for descending keys
+    private String seekPredicate() {
+        List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            StringBuilder alternative = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                alternative.append(ALIAS).append('.').append(keys.get(j).attribute)
+                        .append(" = :").append(KEY_PARAMETER).append(j).append(" AND ");
+            }
+            SortKey key = keys.get(i);
+            alternative.append(ALIAS).append('.').append(key.attribute)
+                    .append(key.direction == Direction.ASC ? " > :" : " < :").append(KEY_PARAMETER).append(i)
+                    .append(')');
+            alternatives.add(alternative.toString());
+        }
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private Page<T> page(TypedQuery<Object[]> query) {
+        parameters.forEach(query::setParameter);
+        // One more row tells whether the next page exists
+        List<Object[]> rows = query.setMaxResults(pageSize + 1).getResultList();
+        boolean more = rows.size() > pageSize;
+        List<T> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            items.add(entity.cast(rows.get(i)[0]));
+        }
+        if (!more) {
+            return new Page<>(items, Optional.empty());
+        }
+        Object[] last = rows.get(pageSize - 1);
+        Object[] values = new Object[keys.size()];
+        System.arraycopy(last, 1, values, 0, values.length);
+        return new Page<>(items, Optional.of(encode(values)));
+    }
+
+    private String encode(Object[] values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(bytes)) {
+            data.writeByte(TOKEN_VERSION);
+            data.writeInt(fingerprint);
+            for (int i = 0; i < values.length; i++) {
+                switch (values[i]) {
+                case Integer value -> {
+                    data.writeByte(INTEGER);
+                    data.writeInt(value);
+                }
+                case Long value -> {
+                    data.writeByte(LONG);
+                    data.writeLong(value);
+                }
+                case String value -> {
+                    data.writeByte(STRING);
+                    data.writeUTF(value);
+                }
+                case Boolean value -> {
+                    data.writeByte(BOOLEAN);
+                    data.writeBoolean(value);
+                }
+                case null -> throw new IllegalStateException(
+                        String.format("Sort key %s of %s is null", keys.get(i).attribute, entity.getSimpleName()));
+                default -> throw new IllegalStateException(
+                        String.format("Sort key %s of %s has unsupported type %s",
+                                      keys.get(i).attribute, entity.getSimpleName(), values[i].getClass().getName()));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private Object[] decode(String token) {
+        Objects.requireNonNull(token, "Continuation token is null");
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        try (DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (data.readByte() != TOKEN_VERSION || data.readInt() != fingerprint) {
+                throw new IllegalArgumentException("Continuation token does not belong to this pager");
+            }
+            Object[] values = new Object[keys.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = switch (data.readByte()) {
+                    case INTEGER -> data.readInt();
+                    case LONG -> data.readLong();
+                    case STRING -> data.readUTF();
+                    case BOOLEAN -> data.readBoolean();
+                    default -> throw new IllegalArgumentException("Continuation token is not valid");
+                };
+            }
+            if (data.available() > 0) {
+                throw new IllegalArgumentException("Continuation token is not valid");
+            }
+            return values;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Continuation token is not valid", e);
+        }
+    }
+
+    /**
+     * Sort direction.
+     */
+    public enum Direction {
+        /**
+         * Ascending order.
+         */
+        ASC,
+        /**
+         * Descending order.
+         */
+        DESC
+    }
+
+    private record SortKey(String attribute, Direction direction) {
+    }
+
+    /**
+     * {@link KeysetPager} builder.
+     *
+     * @param <T> entity type
+     */
+    public static final class Builder<T extends Creature> {
+
+        private final Class<T> entity;
+        private final Map<String, Object> parameters;
+        private final List<SortKey> keys;
+        private String where;
+        private int pageSize;
+
+        private Builder(Class<T> entity) {
+            this.entity = Objects.requireNonNull(entity, "Entity class is null");
+            this.parameters = new LinkedHashMap<>();
+            this.keys = new ArrayList<>();
+            this.where = null;
+            this.pageSize = 100;
+        }
+
+        /**
+         * Filter of the entities as JPQL condition over the {@value KeysetPager#ALIAS} alias.
+         *
+         * @param where the filter condition
+         * @return updated builder
+         */
+        public Builder<T> where(String where) {
+            this.where = where;
+            return this;
+        }
+
+        /**
+         * Named parameter of the filter.
+         *
+         * @param name parameter name
+         * @param value parameter value
+         * @return updated builder
+         */
+        public Builder<T> parameter(String name, Object value) {
+            if (name.startsWith(KEY_PARAMETER)) {
+                throw new IllegalArgumentException(String.format("Parameter name %s is reserved", name));
+            }
+            parameters.put(name, value);
+            return this;
+        }
+
+        /**
+         * Add sort key before the entity ID. Keys are applied in the order they are added.
+         *
+         * @param attribute non-nullable basic attribute name
+         * @param direction sort direction
+         * @return updated builder
+         */
+        public Builder<T> sortBy(String attribute, Direction direction) {
+            if (!ATTRIBUTE.matcher(attribute).matches()) {
+                throw new IllegalArgumentException(String.format("Sort key %s is not an attribute name", attribute));
+            }
+            if (ID.equals(attribute)) {
+                throw new IllegalArgumentException("Entity ID is always the last sort key");
+            }
+            keys.add(new SortKey(attribute, Objects.requireNonNull(direction, "Direction is null")));
+            return this;
+        }
+
+        /**
+         * Number of entities in a full page, {@code 100} by default.
+         *
+         * @param pageSize the page size
+         * @return updated builder
+         */
+        public Builder<T> pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Create new pager.
+         *
+         * @return new pager
+         */
+        public KeysetPager<T> build() {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException(String.format("Page size %d must be at least 1", pageSize));
+            }
+            return new KeysetPager<>(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * Runs updates of versioned entities and retries them when they lose an optimistic lock.
+ * Each attempt uses a new {@link EntityManager} and resource local transaction, so it reads the current state.
+ * Attempts are separated by exponential backoff with full jitter, so contending threads spread out
+ * instead of colliding again. Entity which lost the lock is evicted from the second-level cache
+ * before the next attempt.
+ */
+public final class OptimisticRetry {
+
+    private static final System.Logger LOGGER = System.getLogger(OptimisticRetry.class.getName());
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final LongAdder attempts;
+    private final LongAdder conflicts;
+    private final LongAdder failures;
+
+    private OptimisticRetry(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.attempts = new LongAdder();
+        this.conflicts = new LongAdder();
+        this.failures = new LongAdder();
+    }
+
+    /**
+     * Create new retry builder.
+     *
+     * @return new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Run the update in a transaction until it commits or the attempts are exhausted.
+     * The update must be safe to run more than once.
+     *
+     * @param emf JPA {@link EntityManagerFactory} with resource local transactions
+     * @param update the update, returned value is returned when its transaction commits
+     * @param <R> result type
+     * @return result of the committed attempt
+     * @throws OptimisticLockException when the last attempt lost the lock
+     */
+    public <R> R update(EntityManagerFactory emf, Function<EntityManager, R> update) {
+        for (int attempt = 1; ; attempt++) {
+            attempts.increment();
+            OptimisticLockException conflict;
+            try {
+                return attempt(emf, update);
+            } catch (RuntimeException e) {
+                conflict = optimisticLock(e);
+                if (conflict == null) {
+                    throw e;
+                }
+            }
+            conflicts.increment();
+            evict(emf, conflict.getEntity());
+            if (attempt >= maxAttempts) {
+                failures.increment();
+                throw conflict;
+            }
+            int lost = attempt;
+            LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Attempt %d lost optimistic lock", lost));
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * Update pokemon with provided ID.
+     *
+     * @param emf JPA {@link EntityManagerFactory} with resource local transactions
+     * @param id pokemon ID
+     * @param update the update of the managed pokemon
+     * @return updated pokemon
+     * @throws IllegalArgumentException when the pokemon does not exist
+     */
+    public Pokemon updatePokemon(EntityManagerFactory emf, int id, Consumer<Pokemon> update) {
+        return update(emf, em -> {
+            Pokemon pokemon = em.find(Pokemon.class, id);
+            if (pokemon == null) {
+                throw new IllegalArgumentException(String.format("Pokemon with ID %d does not exist", id));
+            }
+            update.accept(pokemon);
+            return pokemon;
+        });
+    }
+
+    /**
+     * Number of started attempts.
+     *
+     * @return the attempts count
+     */
+    public long attempts() {
+        return attempts.sum();
+    }
+
+    /**
+     * Number of attempts which lost the optimistic lock.
+     *
+     * @return the conflicts count
+     */
+    public long conflicts() {
+        return conflicts.sum();
+    }
+
+    /**
+     * Number of updates which lost the optimistic lock in all attempts.
+     *
+     * @return the failures count
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    private static <R> R attempt(EntityManagerFactory emf, Function<EntityManager, R> update) {
+        try (EntityManager em = emf.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                R result = update.apply(em);
+                et.commit();
+                return result;
+            } finally {
+                if (et.isActive()) {
+                    et.rollback();
+                }
+            }
+        }
+    }
+
+    // Lost lock is reported directly by flush, commit wraps it in RollbackException
+    private static OptimisticLockException optimisticLock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockException conflict) {
+                return conflict;
+            }
+        }
+        return null;
+    }
+
+    private static void evict(EntityManagerFactory emf, Object entity) {
+        if (entity != null) {
+            emf.getCache().evict(entity.getClass(), emf.getPersistenceUnitUtil().getIdentifier(entity));
+        }
+    }
+
+    private void backoff(int attempt) {
+        double limit = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() * Math.pow(multiplier, attempt - 1));
+        long nanos = (long) (ThreadLocalRandom.current().nextDouble() * limit);
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the next update attempt", e);
+        }
+    }
+
+    /**
+     * {@link OptimisticRetry} builder.
+     */
+    public static final class Builder {
+
+        private int maxAttempts;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private double multiplier;
+
+        private Builder() {
+            this.maxAttempts = 10;
+            this.initialBackoff = Duration.ofMillis(1);
+            this.maxBackoff = Duration.ofMillis(100);
+            this.multiplier = 2.0;
+        }
+
+        /**
+         * Maximal number of attempts of a single update, {@code 10} by default.
+         *
+         * @param maxAttempts the maximal attempts count
+         * @return updated builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Backoff limit after the first attempt, {@code 1ms} by default.
+         *
+         * @param initialBackoff the initial backoff
+         * @return updated builder
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = Objects.requireNonNull(initialBackoff, "Initial backoff is null");
+            return this;
+        }
+
+        /**
+         * Upper bound of the backoff limit, {@code 100ms} by default.
+         *
+         * @param maxBackoff the maximal backoff
+         * @return updated builder
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = Objects.requireNonNull(maxBackoff, "Maximal backoff is null");
+            return this;
+        }
+
+        /**
+         * Growth of the backoff limit after each attempt, {@code 2} by default.
+         *
+         * @param multiplier the backoff multiplier
+         * @return updated builder
+         */
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Create new retry.
+         *
+         * @return new retry
+         */
+        public OptimisticRetry build() {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException(
+                        String.format("Maximal attempts %d must be at least 1", maxAttempts));
+            }
+            if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+                throw new IllegalArgumentException(
+                        String.format("Backoff %s - %s is not a valid range", initialBackoff, maxBackoff));
+            }
+            if (multiplier < 1.0) {
+                throw new IllegalArgumentException(
+                        String.format("Backoff multiplier %s must be at least 1", multiplier));
+            }
+            return new OptimisticRetry(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single page of {@link KeysetPager} results.
+ *
+ * @param items entities of the page in the pager order
+ * @param next continuation token of the next page, empty for the last page
+ * @param <T> entity type
+ */
+public record Page<T>(List<T> items, Optional<String> next) {
+
+    /**
+     * Create a page.
+     *
+     * @param items entities of the page in the pager order
+     * @param next continuation token of the next page, empty for the last page
+     */
+    public Page {
+        items = List.copyOf(items);
+    }
+
+}
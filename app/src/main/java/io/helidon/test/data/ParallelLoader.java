@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Loads data of a {@link DatasetGenerator} in parallel.
+ * Each entity class is split into ID range partitions and each partition is loaded on its own virtual thread
+ * with its own {@link EntityManager}. Partitions of an entity class are started when all entity classes it
+ * depends on are loaded. Number of partitions loaded at the same time is limited by the parallelism.
+ */
+public final class ParallelLoader {
+
+    private static final System.Logger LOGGER = System.getLogger(ParallelLoader.class.getName());
+    // Loading is mostly blocked on JDBC, virtual threads are sufficient
+    private static final ThreadFactory LOADER_THREADS = Thread.ofVirtual().name("data-loader-", 0).factory();
+
+    private final DatasetGenerator generator;
+    private final int parallelism;
+    private final Map<Class<?>, Set<Class<?>>> dependencies;
+
+    private ParallelLoader(Builder builder, Map<Class<?>, Set<Class<?>>> dependencies) {
+        this.generator = builder.generator;
+        this.parallelism = builder.parallelism;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Create new loader builder.
+     *
+     * @param generator generator of the loaded data
+     * @return new builder
+     */
+    public static Builder builder(DatasetGenerator generator) {
+        return new Builder(generator);
+    }
+
+    /**
+     * Load all generated entities. Blocks until all partitions are loaded.
+     * When any partition fails, partitions which did not start yet are skipped
+     * and the first failure is thrown.
+     *
+     * @param emf factory of the {@link EntityManager} of each partition
+     * @return reports of all loaded partitions in start order
+     */
+    public List<PartitionReport> load(EntityManagerFactory emf) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Map<Class<?>, CompletableFuture<List<PartitionReport>>> loaded = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(LOADER_THREADS)) {
+            for (Class<?> entity : order()) {
+                CompletableFuture<?>[] required = dependencies.get(entity).stream()
+                        .map(loaded::get)
+                        .toArray(CompletableFuture[]::new);
+                loaded.put(entity, CompletableFuture.allOf(required)
+                        .thenCompose(ignored -> loadEntity(emf, entity, executor, permits, failure)));
+            }
+            CompletableFuture.allOf(loaded.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // Other partitions fail only because they were skipped
+            throw failure.get() != null ? failure.get() : e;
+        }
+        List<PartitionReport> reports = new ArrayList<>();
+        loaded.values().forEach(future -> reports.addAll(future.join()));
+        return reports;
+    }
+
+    private CompletableFuture<List<PartitionReport>> loadEntity(EntityManagerFactory emf,
+                                                                Class<?> entity,
+                                                                ExecutorService executor,
+                                                                Semaphore permits,
+                                                                AtomicReference<RuntimeException> failure) {
+        List<CompletableFuture<PartitionReport>> partitions = new ArrayList<>();
+        int count = generator.count(entity);
+        // Small entities are not split, chunks of a partition are loaded sequentially anyway
+        int partitionsCount = Math.max(1, Math.min(parallelism, ceilDiv(count, generator.chunkSize())));
+        int partitionSize = ceilDiv(count, partitionsCount);
+        for (int fromId = 1; fromId <= count; fromId += partitionSize) {
+            int from = fromId;
+            int to = Math.min(count, fromId + partitionSize - 1);
+            partitions.add(CompletableFuture.supplyAsync(
+                    () -> loadPartition(emf, entity, from, to, permits, failure), executor));
+        }
+        return CompletableFuture.allOf(partitions.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> partitions.stream()
+                        .map(CompletableFuture::join)
+                        .toList());
+    }
+
+    private PartitionReport loadPartition(EntityManagerFactory emf,
+                                          Class<?> entity,
+                                          int fromId,
+                                          int toId,
+                                          Semaphore permits,
+                                          AtomicReference<RuntimeException> failure) {
+        permits.acquireUninterruptibly();
+        try {
+            if (failure.get() != null) {
+                throw new IllegalStateException(
+                        String.format("%s %d..%d skipped after previous failure", entity.getSimpleName(), fromId, toId));
+            }
+            long start = System.nanoTime();
+            int rows;
+            try (EntityManager em = emf.createEntityManager()) {
+                rows = generator.load(em, entity, fromId, toId);
+            }
+            PartitionReport report = new PartitionReport(entity, fromId, toId, rows,
+                                                         Duration.ofNanos(System.nanoTime() - start));
+            LOGGER.log(System.Logger.Level.INFO, report::toString);
+            return report;
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Entity classes in dependency order
+    private List<Class<?>> order() {
+        Set<Class<?>> ordered = new LinkedHashSet<>();
+        while (ordered.size() < dependencies.size()) {
+            boolean progress = false;
+            for (Map.Entry<Class<?>, Set<Class<?>>> entry : dependencies.entrySet()) {
+                if (!ordered.contains(entry.getKey()) && ordered.containsAll(entry.getValue())) {
+                    ordered.add(entry.getKey());
+                    progress = true;
+                }
+            }
+            if (!progress) {
+                throw new IllegalStateException(String.format("Cyclic entity dependencies %s", dependencies));
+            }
+        }
+        return List.copyOf(ordered);
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    /**
+     * {@link ParallelLoader} builder.
+     * By default, leagues are loaded after regions, trainers after teams and pokemons after trainers and types.
+     */
+    public static final class Builder {
+
+        private final DatasetGenerator generator;
+        private final Map<Class<?>, Set<Class<?>>> dependencies;
+        private int parallelism;
+
+        private Builder(DatasetGenerator generator) {
+            this.generator = generator;
+            this.dependencies = new HashMap<>();
+            this.parallelism = Runtime.getRuntime().availableProcessors();
+            DatasetGenerator.ENTITIES.forEach(entity -> dependencies.put(entity, new LinkedHashSet<>()));
+            dependency(League.class, Region.class);
+            dependency(Trainer.class, Team.class);
+            dependency(Pokemon.class, Trainer.class);
+            dependency(Pokemon.class, Type.class);
+        }
+
+        /**
+         * Maximal number of partitions loaded at the same time,
+         * number of available processors by default.
+         *
+         * @param parallelism the parallelism
+         * @return updated builder
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Load entity class only after another entity class is fully loaded.
+         *
+         * @param entity dependent entity class
+         * @param dependsOn entity class loaded first
+         * @return updated builder
+         */
+        public Builder dependency(Class<?> entity, Class<?> dependsOn) {
+            // Fails for entity classes which are not generated
+            generator.count(entity);
+            generator.count(dependsOn);
+            dependencies.get(entity).add(dependsOn);
+            return this;
+        }
+
+        /**
+         * Create new loader.
+         *
+         * @return new loader
+         */
+        public ParallelLoader build() {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException(
+                        String.format("Loader parallelism %d must be at least 1", parallelism));
+            }
+            Map<Class<?>, Set<Class<?>>> ordered = new LinkedHashMap<>();
+            DatasetGenerator.ENTITIES.forEach(entity -> ordered.put(entity, Set.copyOf(dependencies.get(entity))));
+            ParallelLoader loader = new ParallelLoader(this, ordered);
+            // Fails on cyclic dependencies
+            loader.order();
+            return loader;
+        }
+
+    }
+
+}
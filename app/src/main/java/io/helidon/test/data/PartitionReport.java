@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.time.Duration;
+
+/**
+ * Result of loading a single partition by {@link ParallelLoader}.
+ *
+ * @param entity loaded entity class
+ * @param fromId first loaded ID, inclusive
+ * @param toId last loaded ID, inclusive
+ * @param rows number of persisted entities
+ * @param time time spent loading the partition
+ */
+public record PartitionReport(Class<?> entity, int fromId, int toId, int rows, Duration time) {
+
+    /**
+     * Loading throughput of the partition.
+     *
+     * @return persisted entities per second
+     */
+    public double rowsPerSecond() {
+        long nanos = time.toNanos();
+        return nanos == 0 ? 0 : rows * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d..%d: %d rows in %d ms, %.0f rows/s",
+                             entity.getSimpleName(), fromId, toId, rows, time.toMillis(), rowsPerSecond());
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import io.helidon.test.jakarta.ReferenceData;
+import io.helidon.test.model.League;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * In-memory catalog of {@link Type}, {@link Region}, {@link Team} and {@link League} reference data.
+ * Entities are loaded once and held in arrays indexed by ID, so lookups do not access the database
+ * or any persistence context. Returned entities are detached and shared, they must not be modified.
+ * Content changes only by {@link #refresh()}, which also reloads {@link ReferenceData}
+ * of the factory when configured.
+ */
+public final class ReferenceCatalog {
+
+    private static final System.Logger LOGGER = System.getLogger(ReferenceCatalog.class.getName());
+
+    private final EntityManagerFactory emf;
+    private volatile Tables tables;
+
+    private ReferenceCatalog(EntityManagerFactory emf) {
+        this.emf = emf;
+        this.tables = load(emf);
+    }
+
+    /**
+     * Create catalog with reference data loaded from the database.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @return new catalog
+     */
+    public static ReferenceCatalog create(EntityManagerFactory emf) {
+        return new ReferenceCatalog(Objects.requireNonNull(emf, "EntityManagerFactory is null"));
+    }
+
+    /**
+     * {@link Type} with provided ID.
+     *
+     * @param id type ID
+     * @return the type or {@code null} when not found
+     */
+    public Type type(int id) {
+        return get(tables.types, id);
+    }
+
+    /**
+     * {@link Region} with provided ID.
+     *
+     * @param id region ID
+     * @return the region or {@code null} when not found
+     */
+    public Region region(int id) {
+        return get(tables.regions, id);
+    }
+
+    /**
+     * {@link Team} with provided ID.
+     *
+     * @param id team ID
+     * @return the team or {@code null} when not found
+     */
+    public Team team(int id) {
+        return get(tables.teams, id);
+    }
+
+    /**
+     * {@link League} with provided ID. Region of the league is the catalog instance.
+     *
+     * @param id league ID
+     * @return the league or {@code null} when not found
+     */
+    public League league(int id) {
+        return get(tables.leagues, id);
+    }
+
+    /**
+     * All types ordered by ID.
+     *
+     * @return the types
+     */
+    public List<Type> types() {
+        return values(tables.types);
+    }
+
+    /**
+     * All regions ordered by ID.
+     *
+     * @return the regions
+     */
+    public List<Region> regions() {
+        return values(tables.regions);
+    }
+
+    /**
+     * All teams ordered by ID.
+     *
+     * @return the teams
+     */
+    public List<Team> teams() {
+        return values(tables.teams);
+    }
+
+    /**
+     * All leagues ordered by ID.
+     *
+     * @return the leagues
+     */
+    public List<League> leagues() {
+        return values(tables.leagues);
+    }
+
+    /**
+     * Reload reference data from the database. Second-level cache of reference entities is reloaded first
+     * when the factory provides {@link ReferenceData}. Concurrent lookups see either the old
+     * or the new content, never a mix of both.
+     */
+    public synchronized void refresh() {
+        ReferenceData referenceData;
+        try {
+            referenceData = emf.unwrap(ReferenceData.class);
+        } catch (PersistenceException e) {
+            referenceData = null;
+        }
+        if (referenceData != null) {
+            referenceData.refresh();
+        }
+        tables = load(emf);
+    }
+
+    // All entities are read by a single persistence context, so leagues share the catalog regions
+    private static Tables load(EntityManagerFactory emf) {
+        try (EntityManager em = emf.createEntityManager()) {
+            Tables loaded = new Tables(
+                    index(em.createQuery("SELECT t FROM Type t", Type.class).getResultList(),
+                          Type::getId, Type[]::new),
+                    index(em.createQuery("SELECT r FROM Region r", Region.class).getResultList(),
+                          Region::getId, Region[]::new),
+                    index(em.createQuery("SELECT t FROM Team t", Team.class).getResultList(),
+                          Team::getId, Team[]::new),
+                    index(em.createQuery("SELECT l FROM League l", League.class).getResultList(),
+                          League::getId, League[]::new));
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       () -> String.format("Loaded %d types, %d regions, %d teams and %d leagues",
+                                           values(loaded.types).size(),
+                                           values(loaded.regions).size(),
+                                           values(loaded.teams).size(),
+                                           values(loaded.leagues).size()));
+            return loaded;
+        }
+    }
+
+    private static <T> T[] index(List<T> entities, ToIntFunction<T> id, IntFunction<T[]> array) {
+        int max = 0;
+        for (T entity : entities) {
+            int entityId = id.applyAsInt(entity);
+            if (entityId < 0) {
+                throw new IllegalStateException(
+                        String.format("%s has negative ID and can't be indexed", entity));
+            }
+            max = Math.max(max, entityId);
+        }
+        T[] indexed = array.apply(entities.isEmpty() ? 0 : max + 1);
+        for (T entity : entities) {
+            indexed[id.applyAsInt(entity)] = entity;
+        }
+        return indexed;
+    }
+
+    private static <T> T get(T[] entities, int id) {
+        return id >= 0 && id < entities.length ? entities[id] : null;
+    }
+
+    private static <T> List<T> values(T[] entities) {
+        return Arrays.stream(entities)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Arrays are never modified after the load
+    private record Tables(Type[] types, Region[] regions, Team[] teams, League[] leagues) {
+    }
+
+}
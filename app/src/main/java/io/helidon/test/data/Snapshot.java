@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Binary snapshot of the tables of {@code io.helidon.test.model} entities.
+ * Snapshot is written and restored with plain JDBC, entities are not instantiated at all.
+ * <p>
+ * File starts with a magic number and a format version followed by GZIP compressed tables.
+ * Each table is stored as its name, column names and SQL types and a sequence of rows.
+ */
+public final class Snapshot {
+
+    /**
+     * Current snapshot format version.
+     */
+    public static final int VERSION = 1;
+    /**
+     * Snapshot tables in insert order.
+     */
+    public static final List<String> TABLES = List.of("TYPE", "REGION", "LEAGUE", "TEAM", "TRAINER",
+                                                      "POKEMNON", "POKEMNON_TYPE");
+
+    private static final System.Logger LOGGER = System.getLogger(Snapshot.class.getName());
+    private static final int MAGIC = 0x48545350;
+    private static final int BATCH_SIZE = 1000;
+    private static final byte ROW = 1;
+    private static final byte END = 0;
+
+    private Snapshot() {
+        throw new UnsupportedOperationException("No instances of Snapshot are allowed");
+    }
+
+    /**
+     * Write snapshot of all {@link #TABLES} to provided file.
+     * Tables are read in a single transaction.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param file snapshot file, replaced when it exists
+     * @return number of written rows mapped by table name
+     */
+    public static Map<String, Long> write(EntityManager em, Path file) {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(out)))) {
+                inTransaction(em, connection -> {
+                    data.writeInt(TABLES.size());
+                    for (String table : TABLES) {
+                        rows.put(table, writeTable(connection, table, data));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not write snapshot %s", file), e);
+        }
+        LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Snapshot %s written: %s", file, rows));
+        return rows;
+    }
+
+    /**
+     * Replace content of all {@link #TABLES} with provided snapshot.
+     * Existing rows are deleted and snapshot rows are inserted with JDBC batches in a single transaction.
+     * Sequences of {@link IdAllocator} are not part of the snapshot, units using it must call
+     * {@link IdAllocator#reset(EntityManager)} after the restore. Second-level cache is cleared after the restore.
+     *
+     * @param em JPA {@link EntityManager} with resource local transactions
+     * @param file snapshot file
+     * @return number of restored rows mapped by table name
+     * @throws IllegalArgumentException when the file is not a supported snapshot or contains unknown table
+     */
+    public static Map<String, Long> restore(EntityManager em, Path file) {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException(String.format("File %s is not a snapshot", file));
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(
+                        String.format("Snapshot %s version %d is not supported, expected %d", file, version, VERSION));
+            }
+            try (DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)))) {
+                inTransaction(em, connection -> {
+                    List<String> reversed = new ArrayList<>(TABLES);
+                    Collections.reverse(reversed);
+                    try (Statement statement = connection.createStatement()) {
+                        for (String table : reversed) {
+                            statement.executeUpdate("DELETE FROM " + table);
+                        }
+                    }
+                    int tables = data.readInt();
+                    for (int i = 0; i < tables; i++) {
+                        String table = data.readUTF();
+                        // Table names are concatenated into SQL, so only known tables are accepted
+                        if (!TABLES.contains(table)) {
+                            throw new IllegalArgumentException(
+                                    String.format("Snapshot %s contains unknown table %s", file, table));
+                        }
+                        rows.put(table, restoreTable(connection, table, data));
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(String.format("Could not read snapshot %s", file), e);
+        }
+        em.clear();
+        em.getEntityManagerFactory().getCache().evictAll();
+        LOGGER.log(System.Logger.Level.DEBUG, () -> String.format("Snapshot %s restored: %s", file, rows));
+        return rows;
+    }
+
+    private static long writeTable(Connection connection, String table, DataOutputStream data)
+            throws SQLException, IOException {
+        long rows = 0;
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table)) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            int columns = metaData.getColumnCount();
+            int[] types = new int[columns];
+            data.writeUTF(table);
+            data.writeInt(columns);
+            for (int i = 0; i < columns; i++) {
+                types[i] = storedType(table, metaData.getColumnName(i + 1), metaData.getColumnType(i + 1));
+                data.writeUTF(metaData.getColumnName(i + 1));
+                data.writeInt(types[i]);
+            }
+            while (resultSet.next()) {
+                data.writeByte(ROW);
+                for (int i = 0; i < columns; i++) {
+                    writeValue(resultSet, i + 1, types[i], data);
+                }
+                rows++;
+            }
+            data.writeByte(END);
+        }
+        return rows;
+    }
+
+    private static long restoreTable(Connection connection, String table, DataInputStream data)
+            throws SQLException, IOException {
+        int columns = data.readInt();
+        List<String> names = new ArrayList<>(columns);
+        int[] types = new int[columns];
+        for (int i = 0; i < columns; i++) {
+            names.add(data.readUTF());
+            types[i] = data.readInt();
+        }
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            while (data.readByte() == ROW) {
+                for (int i = 0; i < columns; i++) {
+                    readValue(statement, i + 1, types[i], data);
+                }
+                statement.addBatch();
+                if (++rows % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (rows % BATCH_SIZE != 0) {
+                statement.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    // Model uses only integer, boolean and string columns
+    private static int storedType(String table, String column, int type) {
+        return switch (type) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER -> Types.INTEGER;
+            case Types.BIGINT -> Types.BIGINT;
+            case Types.BIT, Types.BOOLEAN -> Types.BOOLEAN;
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR -> Types.VARCHAR;
+            default -> throw new IllegalStateException(
+                    String.format("Column %s.%s has unsupported SQL type %d", table, column, type));
+        };
+    }
+
+    private static void writeValue(ResultSet resultSet, int index, int type, DataOutputStream data)
+            throws SQLException, IOException {
+        Object value = resultSet.getObject(index);
+        if (value == null) {
+            data.writeBoolean(false);
+            return;
+        }
+        data.writeBoolean(true);
+        switch (type) {
+            case Types.INTEGER -> data.writeInt(resultSet.getInt(index));
+            case Types.BIGINT -> data.writeLong(resultSet.getLong(index));
+            case Types.BOOLEAN -> data.writeBoolean(resultSet.getBoolean(index));
+            default -> data.writeUTF(resultSet.getString(index));
+        }
+    }
+
+    private static void readValue(PreparedStatement statement, int index, int type, DataInputStream data)
+            throws SQLException, IOException {
+        if (!data.readBoolean()) {
+            statement.setNull(index, type);
+            return;
+        }
+        switch (type) {
+            case Types.INTEGER -> statement.setInt(index, data.readInt());
+            case Types.BIGINT -> statement.setLong(index, data.readLong());
+            case Types.BOOLEAN -> statement.setBoolean(index, data.readBoolean());
+            default -> statement.setString(index, data.readUTF());
+        }
+    }
+
+    private static void inTransaction(EntityManager em, SnapshotTask task) throws IOException {
+        EntityTransaction et = em.getTransaction();
+        et.begin();
+        try {
+            em.<Connection>runWithConnection(connection -> inTransaction(connection, task));
+            et.commit();
+        } catch (RuntimeException e) {
+            if (et.isActive()) {
+                et.rollback();
+            }
+            // Persistence provider wraps exceptions of the task, snapshot format errors are thrown as they are
+            if (e instanceof PersistenceException) {
+                if (e.getCause() instanceof IOException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof IllegalArgumentException cause) {
+                    throw cause;
+                }
+            }
+            throw e;
+        }
+    }
+
+    // Provider may hand out the connection before it begins the database transaction
+    private static void inTransaction(Connection connection, SnapshotTask task) throws SQLException, IOException {
+        if (!connection.getAutoCommit()) {
+            task.run(connection);
+            return;
+        }
+        connection.setAutoCommit(false);
+        try {
+            task.run(connection);
+            connection.commit();
+        } catch (SQLException | IOException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SnapshotTask {
+
+        void run(Connection connection) throws SQLException, IOException;
+
+    }
+
+}
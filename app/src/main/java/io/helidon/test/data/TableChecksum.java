@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.stream.Collectors;
+
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+/**
+ * Row count and order independent content checksum of an entity table.
+ * Checksum is the sum of 64-bit hashes of all rows, so rows may be added in any order.
+ * Row content includes all attributes and IDs of related entities.
+ *
+ * @param entity entity class
+ * @param rows number of rows
+ * @param checksum sum of row hashes
+ */
+public record TableChecksum(Class<?> entity, long rows, long checksum) {
+
+    /**
+     * Create empty checksum.
+     *
+     * @param entity entity class
+     * @return checksum of an empty table
+     */
+    public static TableChecksum empty(Class<?> entity) {
+        return new TableChecksum(entity, 0, 0);
+    }
+
+    /**
+     * Checksum with provided row added.
+     *
+     * @param row entity of the table
+     * @return updated checksum
+     */
+    public TableChecksum add(Object row) {
+        return new TableChecksum(entity, rows + 1, checksum + hash(content(row)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s {rows=%d, checksum=%016x}", entity.getSimpleName(), rows, checksum);
+    }
+
+    private static String content(Object row) {
+        return switch (row) {
+            case Type type -> type.getId() + "|" + type.getName();
+            case Region region -> region.getId() + "|" + region.getName();
+            case League league -> league.getId() + "|" + league.getName()
+                    + "|" + (league.getRegion() == null ? null : league.getRegion().getId());
+            case Team team -> team.getId() + "|" + team.getName();
+            case Trainer trainer -> trainer.getId() + "|" + trainer.getName()
+                    + "|" + (trainer.getTeam() == null ? null : trainer.getTeam().getId());
+            case Pokemon pokemon -> pokemon.getId() + "|" + pokemon.getName() + "|" + pokemon.getHp()
+                    + "|" + pokemon.isAlive()
+                    + "|" + (pokemon.getTrainer() == null ? null : pokemon.getTrainer().getId())
+                    + "|" + pokemon.getTypes().stream()
+                            .map(Type::getId)
+                            .sorted()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(","))
+                    + "|" + pokemon.getTypeSet().mask();
+            default -> throw new IllegalArgumentException(
+                    String.format("No checksum of %s rows", row.getClass().getName()));
+        };
+    }
+
+    // FNV-1a followed by SplitMix64 finalizer to spread bits of similar rows
+    private static long hash(String content) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+}
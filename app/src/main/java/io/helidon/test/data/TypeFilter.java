@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.data;
+
+import java.util.Objects;
+
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.TypeSet;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.MySQLPlatform;
+import org.eclipse.persistence.platform.database.PostgreSQLPlatform;
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * Queries of {@link Pokemon}s by their {@link TypeSet} bitmask.
+ * Type predicates are evaluated on the {@code TYPE_MASK} column, so the {@code POKEMNON_TYPE}
+ * join table is not part of the query. Jakarta Persistence query language has no bitwise operators,
+ * so the bitwise AND is passed to the database as SQL in the syntax of the session's {@link DatabasePlatform}.
+ */
+public final class TypeFilter {
+
+    // Databases with the & operator
+    private static final String AND_OPERATOR = "SQL('(? & ?)', p.typeSet, :mask)";
+    // Others are expected to provide BITAND function, the mask is cast as some databases can't type the parameter
+    private static final String AND_FUNCTION = "SQL('BITAND(?, CAST(? AS INTEGER))', p.typeSet, :mask)";
+
+    private final String bitAnd;
+
+    private TypeFilter(String bitAnd) {
+        this.bitAnd = bitAnd;
+    }
+
+    /**
+     * Create filter for the database platform of provided factory.
+     *
+     * @param emf JPA {@link EntityManagerFactory}
+     * @return new filter
+     */
+    public static TypeFilter create(EntityManagerFactory emf) {
+        DatabasePlatform platform = emf.unwrap(Session.class).getPlatform();
+        boolean operator = platform instanceof MySQLPlatform || platform instanceof PostgreSQLPlatform;
+        return new TypeFilter(operator ? AND_OPERATOR : AND_FUNCTION);
+    }
+
+    /**
+     * Pokemons with at least one of provided types ordered by ID.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param types the types
+     * @return the query
+     */
+    public TypedQuery<Pokemon> anyOf(EntityManager em, TypeSet types) {
+        return query(em, anyOfCondition(), types);
+    }
+
+    /**
+     * Pokemons with all provided types ordered by ID.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param types the types
+     * @return the query
+     */
+    public TypedQuery<Pokemon> allOf(EntityManager em, TypeSet types) {
+        return query(em, bitAnd + " = :mask", types);
+    }
+
+    /**
+     * Pokemons with none of provided types ordered by ID.
+     *
+     * @param em JPA {@link EntityManager}
+     * @param types the types
+     * @return the query
+     */
+    public TypedQuery<Pokemon> noneOf(EntityManager em, TypeSet types) {
+        return query(em, bitAnd + " = 0", types);
+    }
+
+    // Condition over pokemon alias p with mask parameter, used by bulk updates
+    String anyOfCondition() {
+        return bitAnd + " <> 0";
+    }
+
+    private static TypedQuery<Pokemon> query(EntityManager em, String predicate, TypeSet types) {
+        Objects.requireNonNull(types, "TypeSet is null");
+        return em.createQuery("SELECT p FROM Pokemon p WHERE " + predicate + " ORDER BY p.id", Pokemon.class)
+                .setParameter("mask", types.mask());
+    }
+
+}
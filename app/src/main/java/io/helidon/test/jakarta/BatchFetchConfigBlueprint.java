@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.List;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Batch fetching of relationships. Relationship of all entities read by a query is loaded
+ * by a single additional query instead of a query per entity.
+ */
+@Prototype.Blueprint(decorator = BatchFetchConfigBlueprint.BuilderDecorator.class)
+@Prototype.Configured
+interface BatchFetchConfigBlueprint {
+
+    /**
+     * How the related entities are selected.
+     *
+     * @return the batch fetch type
+     */
+    @Option.Configured
+    @Option.Default("IN")
+    @Option.AllowedValue(value = "IN", description = "Related entities are selected by IN list of source keys "
+            + "in chunks of the batch size.")
+    @Option.AllowedValue(value = "JOIN", description = "Related entities are selected by joining the original query.")
+    @Option.AllowedValue(value = "EXISTS", description = "Related entities are selected by EXISTS subquery "
+            + "of the original query.")
+    String type();
+
+    /**
+     * Maximal number of source keys in a single {@code IN} list.
+     *
+     * @return the batch size
+     */
+    @Option.Configured
+    @Option.DefaultInt(256)
+    int size();
+
+    /**
+     * Batch fetched relationships as entity class name and attribute name separated by a dot,
+     * e.g. {@code io.helidon.test.model.Trainer.pokemons}. All relationships of all entities
+     * are batch fetched when empty.
+     *
+     * @return the relationships
+     */
+    @Option.Configured
+    @Option.Singular("relationship")
+    List<String> relationships();
+
+    /**
+     * Batch size and relationship names consistency check.
+     */
+    class BuilderDecorator implements Prototype.BuilderDecorator<BatchFetchConfig.BuilderBase<?, ?>> {
+
+        BuilderDecorator() {
+        }
+
+        @Override
+        public void decorate(BatchFetchConfig.BuilderBase<?, ?> target) {
+            if (target.size() < 1) {
+                throw new PersistenceConfigException(
+                        String.format("Batch fetch size %d must be at least 1", target.size()));
+            }
+            for (String relationship : target.relationships()) {
+                int dot = relationship.lastIndexOf('.');
+                if (dot < 1 || dot == relationship.length() - 1) {
+                    throw new PersistenceConfigException(
+                            String.format("Batch fetch relationship %s is not an entity class and attribute name",
+                                          relationship));
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * JDBC batch writing. Consecutive statements of the same kind are sent to the database in batches.
+ * MySQL also requires {@code rewriteBatchedStatements=true} in the connection string to get multi-row inserts.
+ */
+@Prototype.Blueprint(decorator = BatchWritingConfigBlueprint.BuilderDecorator.class)
+@Prototype.Configured
+interface BatchWritingConfigBlueprint {
+
+    /**
+     * Batch writing mode.
+     *
+     * @return the batch writing mode
+     */
+    @Option.Configured
+    @Option.Default("JDBC")
+    @Option.AllowedValue(value = "JDBC", description = "Statements are batched using JDBC batch API.")
+    @Option.AllowedValue(value = "BUFFERED", description = "Statements are batched as a single dynamic SQL string.")
+    @Option.AllowedValue(value = "ORACLE_JDBC", description = "Statements are batched using Oracle JDBC batch API.")
+    @Option.AllowedValue(value = "NONE", description = "Statements are not batched.")
+    String mode();
+
+    /**
+     * Maximal number of statements in a single batch.
+     *
+     * @return the batch size
+     */
+    @Option.Configured
+    @Option.DefaultInt(100)
+    int size();
+
+    /**
+     * Batch size consistency check.
+     */
+    class BuilderDecorator implements Prototype.BuilderDecorator<BatchWritingConfig.BuilderBase<?, ?>> {
+
+        BuilderDecorator() {
+        }
+
+        @Override
+        public void decorate(BatchWritingConfig.BuilderBase<?, ?> target) {
+            if (target.size() < 1) {
+                throw new PersistenceConfigException(
+                        String.format("Batch writing size %d must be at least 1", target.size()));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for each {@link BootstrapReport} phase.
+ */
+@Name("io.helidon.test.jakarta.BootstrapPhase")
+@Label("Persistence Bootstrap Phase")
+@Description("Phase of EntityManagerFactory bootstrap")
+@Category({"Helidon", "Persistence"})
+final class BootstrapPhaseEvent extends Event {
+
+    @Label("Persistence Unit")
+    String persistenceUnit;
+
+    @Label("Phase")
+    String phase;
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records sequential bootstrap phases. Starting a phase ends the previous one.
+ * Phases are also emitted as {@link BootstrapPhaseEvent} Flight Recorder events.
+ */
+final class BootstrapRecorder {
+
+    private final String persistenceUnitName;
+    // Guarded by this
+    private final List<BootstrapReport.Phase> phases;
+    // Guarded by this
+    private String current;
+    // Guarded by this
+    private long start;
+    // Guarded by this
+    private BootstrapPhaseEvent event;
+    // Guarded by this
+    private boolean finished;
+
+    BootstrapRecorder(String persistenceUnitName) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.phases = new ArrayList<>();
+        this.current = null;
+        this.start = 0;
+        this.event = null;
+        this.finished = false;
+    }
+
+    synchronized void begin(String phase) {
+        if (finished) {
+            return;
+        }
+        end();
+        current = phase;
+        start = System.nanoTime();
+        event = new BootstrapPhaseEvent();
+        event.persistenceUnit = persistenceUnitName;
+        event.phase = phase;
+        event.begin();
+    }
+
+    synchronized BootstrapReport finish() {
+        if (!finished) {
+            end();
+            finished = true;
+        }
+        return new BootstrapReport(persistenceUnitName, phases);
+    }
+
+    private void end() {
+        if (current != null) {
+            phases.add(new BootstrapReport.Phase(current, Duration.ofNanos(System.nanoTime() - start)));
+            event.commit();
+            current = null;
+            event = null;
+        }
+    }
+
+}
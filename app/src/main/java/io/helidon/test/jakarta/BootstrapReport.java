@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Timing of {@link jakarta.persistence.EntityManagerFactory} bootstrap phases.
+ * Available from {@link jakarta.persistence.EntityManagerFactory} created by {@link PersistenceUtils}:
+ * <pre>{@code
+ * BootstrapReport report = emf.unwrap(BootstrapReport.class);
+ * }</pre>
+ * Phases are listed in the order they were executed. Phases recorded by the persistence provider
+ * ({@link #CONNECTION} and {@link #SCHEMA_GENERATION}) are present only when EclipseLink is the provider.
+ * Other providers may connect lazily on the first {@link jakarta.persistence.EntityManager}, outside the report.
+ */
+public final class BootstrapReport {
+
+    /**
+     * Resolution and loading of managed classes.
+     */
+    public static final String CLASS_LOADING = "class-loading";
+    /**
+     * Mapping of {@link PersistenceConfig} to the persistence unit configuration.
+     */
+    public static final String CONFIGURATION = "configuration";
+    /**
+     * Persistence provider metadata processing and session setup.
+     */
+    public static final String METADATA = "metadata";
+    /**
+     * Database login including the first connections of the pools.
+     */
+    public static final String CONNECTION = "connection";
+    /**
+     * Schema generation and the rest of the persistence provider deployment.
+     */
+    public static final String SCHEMA_GENERATION = "schema-generation";
+    /**
+     * Preloading of reference entities into the second-level cache.
+     */
+    public static final String REFERENCE_DATA = "reference-data";
+
+    private final String persistenceUnitName;
+    private final List<Phase> phases;
+
+    BootstrapReport(String persistenceUnitName, List<Phase> phases) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.phases = List.copyOf(phases);
+    }
+
+    /**
+     * Persistence unit name.
+     *
+     * @return the persistence unit name
+     */
+    public String persistenceUnitName() {
+        return persistenceUnitName;
+    }
+
+    /**
+     * Recorded bootstrap phases.
+     *
+     * @return the phases in execution order
+     */
+    public List<Phase> phases() {
+        return phases;
+    }
+
+    /**
+     * Duration of a single phase.
+     *
+     * @param name phase name
+     * @return the phase duration or empty value when the phase was not recorded
+     */
+    public Optional<Duration> phase(String name) {
+        return phases.stream()
+                .filter(phase -> phase.name().equals(name))
+                .map(Phase::duration)
+                .findFirst();
+    }
+
+    /**
+     * Total bootstrap time.
+     *
+     * @return sum of all phases durations
+     */
+    public Duration total() {
+        return phases.stream()
+                .map(Phase::duration)
+                .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Persistence unit ");
+        sb.append(persistenceUnitName);
+        sb.append(" started in ");
+        sb.append(total().toMillis());
+        sb.append(" ms");
+        boolean first = true;
+        for (Phase phase : phases) {
+            sb.append(first ? ": " : ", ");
+            first = false;
+            sb.append(phase.name());
+            sb.append(' ');
+            sb.append(phase.duration().toMillis());
+            sb.append(" ms");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Single bootstrap phase.
+     *
+     * @param name phase name
+     * @param duration time spent in the phase
+     */
+    public record Phase(String name, Duration duration) {
+    }
+
+}
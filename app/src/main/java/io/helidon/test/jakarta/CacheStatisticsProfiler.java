@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+
+/**
+ * EclipseLink profiler counting identity cache hits and misses of entities registered in {@link EntityCacheMetrics}.
+ * All other profiling events are ignored.
+ */
+final class CacheStatisticsProfiler extends SessionProfilerAdapter {
+
+    private final EntityCacheMetrics metrics;
+
+    CacheStatisticsProfiler(EntityCacheMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Profiler with no weight is not notified about any event
+    @Override
+    public int getProfileWeight() {
+        return SessionProfiler.NORMAL;
+    }
+
+    @Override
+    public void occurred(String operationName, DatabaseQuery query, AbstractSession session) {
+        if (query == null || query.getReferenceClass() == null) {
+            return;
+        }
+        if (SessionProfiler.CacheHits.equals(operationName)) {
+            metrics.cache(query.getReferenceClass().getName()).ifPresent(EntityCacheStatistics::hit);
+        } else if (SessionProfiler.CacheMisses.equals(operationName)) {
+            metrics.cache(query.getReferenceClass().getName()).ifPresent(EntityCacheStatistics::miss);
+        }
+    }
+
+}
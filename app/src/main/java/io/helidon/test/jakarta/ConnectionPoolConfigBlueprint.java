@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * JDBC connection pools of the persistence unit.
+ * Writes and transactions use the write pool, non-transactional reads use the read pool.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface ConnectionPoolConfigBlueprint {
+
+    /**
+     * Write connection pool. This is also the default pool of the persistence unit.
+     *
+     * @return the write pool
+     */
+    @Option.Configured
+    Optional<PoolConfig> write();
+
+    /**
+     * Read connection pool.
+     *
+     * @return the read pool
+     */
+    @Option.Configured
+    Optional<PoolConfig> read();
+
+    /**
+     * Whether read connections may be shared by concurrent non-transactional reads.
+     *
+     * @return value of {@code true} when read connections are shared
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean readShared();
+
+    /**
+     * Number of times a query is retried after the connection was found invalid.
+     *
+     * @return the query retry attempts count
+     */
+    @Option.Configured
+    Optional<Integer> queryRetryAttempts();
+
+    /**
+     * Delay between attempts to reconnect an invalid connection.
+     *
+     * @return the reconnect delay
+     */
+    @Option.Configured
+    Optional<Duration> reconnectDelay();
+
+    /**
+     * Whether to collect pool usage statistics. Collected statistics are available as
+     * {@link ConnectionPoolMetrics} unwrapped from the {@link jakarta.persistence.EntityManagerFactory}.
+     *
+     * @return value of {@code true} when statistics are collected
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean statistics();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Statistics of all connection pools of a persistence unit.
+ * Available from {@link jakarta.persistence.EntityManagerFactory} created by {@link PersistenceUtils}
+ * when {@link ConnectionPoolConfig#statistics()} is enabled:
+ * <pre>{@code
+ * ConnectionPoolMetrics metrics = emf.unwrap(ConnectionPoolMetrics.class);
+ * }</pre>
+ * Pools are registered when the persistence provider connects to the database.
+ */
+public final class ConnectionPoolMetrics {
+
+    /**
+     * Name of the write (default) connection pool.
+     */
+    public static final String WRITE_POOL = "default";
+    /**
+     * Name of the read connection pool.
+     */
+    public static final String READ_POOL = "read";
+
+    private final Map<String, ConnectionPoolStatistics> pools;
+
+    ConnectionPoolMetrics() {
+        this.pools = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Statistics of all registered pools.
+     *
+     * @return pool statistics mapped by pool name
+     */
+    public Map<String, ConnectionPoolStatistics> pools() {
+        return Map.copyOf(pools);
+    }
+
+    /**
+     * Statistics of a single pool.
+     *
+     * @param name pool name
+     * @return the pool statistics or empty value when no such pool is registered
+     */
+    public Optional<ConnectionPoolStatistics> pool(String name) {
+        return Optional.ofNullable(pools.get(name));
+    }
+
+    ConnectionPoolStatistics register(String name) {
+        return pools.computeIfAbsent(name, ConnectionPoolStatistics::new);
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Usage statistics of a single JDBC connection pool.
+ */
+public final class ConnectionPoolStatistics {
+
+    private final String name;
+    private final AtomicInteger inUse;
+    private final AtomicInteger peakInUse;
+    private final LongAdder acquisitions;
+    private final LongAdder timeouts;
+    private final LongAdder waitNanos;
+    private final AtomicLong maxWaitNanos;
+
+    ConnectionPoolStatistics(String name) {
+        this.name = name;
+        this.inUse = new AtomicInteger(0);
+        this.peakInUse = new AtomicInteger(0);
+        this.acquisitions = new LongAdder();
+        this.timeouts = new LongAdder();
+        this.waitNanos = new LongAdder();
+        this.maxWaitNanos = new AtomicLong(0);
+    }
+
+    /**
+     * Connection pool name.
+     *
+     * @return the pool name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Number of connections currently acquired from the pool.
+     *
+     * @return the number of connections in use
+     */
+    public int inUse() {
+        return inUse.get();
+    }
+
+    /**
+     * Highest number of connections acquired from the pool at the same time.
+     *
+     * @return the peak number of connections in use
+     */
+    public int peakInUse() {
+        return peakInUse.get();
+    }
+
+    /**
+     * Number of successful connection acquisitions.
+     *
+     * @return the acquisitions count
+     */
+    public long acquisitions() {
+        return acquisitions.sum();
+    }
+
+    /**
+     * Number of acquisitions which failed because no connection became free within the wait timeout.
+     *
+     * @return the timeouts count
+     */
+    public long timeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Total time spent waiting for connections, including failed acquisitions.
+     *
+     * @return the total wait time
+     */
+    public Duration totalWaitTime() {
+        return Duration.ofNanos(waitNanos.sum());
+    }
+
+    /**
+     * Longest time spent waiting for a single connection.
+     *
+     * @return the maximal wait time
+     */
+    public Duration maxWaitTime() {
+        return Duration.ofNanos(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s {name=%s, inUse=%d, peakInUse=%d, acquisitions=%d, timeouts=%d, "
+                                     + "totalWaitTime=%s, maxWaitTime=%s}",
+                             getClass().getSimpleName(), name, inUse(), peakInUse(), acquisitions(), timeouts(),
+                             totalWaitTime(), maxWaitTime());
+    }
+
+    void acquired(long waitTime) {
+        acquisitions.increment();
+        waited(waitTime);
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+    }
+
+    void timedOut(long waitTime) {
+        timeouts.increment();
+        waited(waitTime);
+    }
+
+    void released() {
+        inUse.decrementAndGet();
+    }
+
+    private void waited(long waitTime) {
+        waitNanos.add(waitTime);
+        maxWaitNanos.accumulateAndGet(waitTime, Math::max);
+    }
+
+}
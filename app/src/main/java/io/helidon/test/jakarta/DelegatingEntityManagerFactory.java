@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitTransactionType;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Query;
+import jakarta.persistence.SchemaManager;
+import jakarta.persistence.SynchronizationType;
+import jakarta.persistence.TypedQueryReference;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.metamodel.Metamodel;
+
+/**
+ * {@link EntityManagerFactory} which forwards all calls to another factory.
+ * Subclasses override only the methods they need to decorate.
+ */
+abstract class DelegatingEntityManagerFactory implements EntityManagerFactory {
+
+    private final EntityManagerFactory delegate;
+
+    DelegatingEntityManagerFactory(EntityManagerFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * The factory all calls are forwarded to.
+     *
+     * @return the delegate factory
+     */
+    EntityManagerFactory delegate() {
+        return delegate;
+    }
+
+    @Override
+    public EntityManager createEntityManager() {
+        return delegate().createEntityManager();
+    }
+
+    @Override
+    public EntityManager createEntityManager(Map<?, ?> map) {
+        return delegate().createEntityManager(map);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType) {
+        return delegate().createEntityManager(synchronizationType);
+    }
+
+    @Override
+    public EntityManager createEntityManager(SynchronizationType synchronizationType, Map<?, ?> map) {
+        return delegate().createEntityManager(synchronizationType, map);
+    }
+
+    @Override
+    public CriteriaBuilder getCriteriaBuilder() {
+        return delegate().getCriteriaBuilder();
+    }
+
+    @Override
+    public Metamodel getMetamodel() {
+        return delegate().getMetamodel();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return delegate().isOpen();
+    }
+
+    @Override
+    public void close() {
+        delegate().close();
+    }
+
+    @Override
+    public String getName() {
+        return delegate().getName();
+    }
+
+    @Override
+    public Map<String, Object> getProperties() {
+        return delegate().getProperties();
+    }
+
+    @Override
+    public Cache getCache() {
+        return delegate().getCache();
+    }
+
+    @Override
+    public PersistenceUnitUtil getPersistenceUnitUtil() {
+        return delegate().getPersistenceUnitUtil();
+    }
+
+    @Override
+    public PersistenceUnitTransactionType getTransactionType() {
+        return delegate().getTransactionType();
+    }
+
+    @Override
+    public SchemaManager getSchemaManager() {
+        return delegate().getSchemaManager();
+    }
+
+    @Override
+    public void addNamedQuery(String name, Query query) {
+        delegate().addNamedQuery(name, query);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        if (cls.isInstance(this)) {
+            return cls.cast(this);
+        }
+        return delegate().unwrap(cls);
+    }
+
+    @Override
+    public <T> void addNamedEntityGraph(String graphName, EntityGraph<T> entityGraph) {
+        delegate().addNamedEntityGraph(graphName, entityGraph);
+    }
+
+    @Override
+    public <R> Map<String, TypedQueryReference<R>> getNamedQueries(Class<R> resultType) {
+        return delegate().getNamedQueries(resultType);
+    }
+
+    @Override
+    public <E> Map<String, EntityGraph<? extends E>> getNamedEntityGraphs(Class<E> entityType) {
+        return delegate().getNamedEntityGraphs(entityType);
+    }
+
+    @Override
+    public void runInTransaction(Consumer<EntityManager> work) {
+        delegate().runInTransaction(work);
+    }
+
+    @Override
+    public <R> R callInTransaction(Function<EntityManager, R> work) {
+        return delegate().callInTransaction(work);
+    }
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.annotations.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
+import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
+import org.eclipse.persistence.queries.BatchFetchPolicy;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionCustomizer;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+/**
+ * EclipseLink {@link SessionCustomizer} installed by {@link PersistenceUtils}.
+ * Session is matched with its {@link Registration} by the session name. Customizer configured
+ * by the user in persistence unit properties is invoked after this one.
+ */
+public final class EclipseLinkSessionCustomizer implements SessionCustomizer {
+
+    static final String SESSION_CUSTOMIZER = "eclipselink.session.customizer";
+    static final String SESSION_NAME = "eclipselink.session-name";
+    static final String DEPLOY_ON_STARTUP = "eclipselink.deploy-on-startup";
+    static final String REPLICA_POOL_PREFIX = "replica-";
+
+    private static final System.Logger LOGGER = System.getLogger(EclipseLinkSessionCustomizer.class.getName());
+    // Sessions waiting for deployment, removed when customized or when the factory is closed
+    private static final Map<String, Registration> REGISTRATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance of the customizer. Called by EclipseLink.
+     */
+    public EclipseLinkSessionCustomizer() {
+    }
+
+    static void register(String sessionName, Registration registration) {
+        REGISTRATIONS.put(sessionName, registration);
+    }
+
+    static void unregister(String sessionName) {
+        REGISTRATIONS.remove(sessionName);
+    }
+
+    static CacheInvalidationPolicy invalidationPolicy(Optional<Duration> timeToLive) {
+        return timeToLive.<CacheInvalidationPolicy>map(ttl -> new TimeToLiveCacheInvalidationPolicy(ttl.toMillis()))
+                .orElseGet(NoExpiryCacheInvalidationPolicy::new);
+    }
+
+    /**
+     * Invalidate cached results of queries reading provided entity.
+     * Bulk JPQL updates and deletes bypass the result caches maintained by EclipseLink.
+     *
+     * @param emf EclipseLink {@link EntityManagerFactory}
+     * @param entity entity class changed outside the cache
+     */
+    public static void invalidateQueryResults(EntityManagerFactory emf, Class<?> entity) {
+        emf.unwrap(Session.class).getIdentityMapAccessor().invalidateQueryCache(entity);
+    }
+
+    @Override
+    public void customize(Session session) throws Exception {
+        Registration registration = REGISTRATIONS.remove(session.getName());
+        if (registration == null) {
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       () -> String.format("No registration found for session %s", session.getName()));
+            return;
+        }
+        session.getEventManager().addListener(new BootstrapListener(registration.bootstrap));
+        if (!registration.entityCaches.isEmpty()) {
+            entityCaches(session, registration.entityCaches, registration.cacheMetrics);
+        }
+        if (registration.batchFetch != null) {
+            batchFetch(session, registration.batchFetch);
+            session.getEventManager().addListener(new BatchFetchListener(registration.batchFetch.size()));
+        }
+        if (registration.referenceData != null) {
+            referenceData(session, registration.referenceData);
+        }
+        if (!registration.queryCaches.isEmpty()) {
+            session.getEventManager().addListener(new QueryCacheListener(registration.queryCaches));
+        }
+        if (session instanceof ServerSession server) {
+            if (registration.poolMetrics != null) {
+                instrumentPools(server, registration.poolMetrics);
+            }
+            if (registration.readReplicas != null) {
+                readReplicas(server, registration.readReplicas, registration.poolMetrics);
+            }
+        }
+        if (session instanceof ServerSession server && registration.tuning != null) {
+            registration.tuning.session(server);
+        }
+        if (registration.customizer != null) {
+            Class<?> customizerClass = Class.forName(registration.customizer,
+                                                     true,
+                                                     Thread.currentThread().getContextClassLoader());
+            ((SessionCustomizer) customizerClass.getDeclaredConstructor().newInstance()).customize(session);
+        }
+    }
+
+    // Cache type and size are set by persistence unit properties, the rest is not available as a property
+    private static void entityCaches(Session session, List<EntityCacheConfig> caches, EntityCacheMetrics metrics) {
+        Map<String, ClassDescriptor> descriptors = new HashMap<>();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            descriptors.put(descriptor.getJavaClassName(), descriptor);
+        }
+        for (EntityCacheConfig cache : caches) {
+            ClassDescriptor descriptor = descriptors.get(cache.entityClass());
+            if (descriptor == null) {
+                throw new PersistenceConfigException(
+                        String.format("Cache configured for %s which is not a managed entity", cache.entityClass()));
+            }
+            // Entities excluded from caching by the shared cache mode stay isolated
+            if (descriptor.getCacheIsolation() != CacheIsolationType.ISOLATED) {
+                descriptor.setCacheIsolation(switch (cache.isolation()) {
+                    case "SHARED" -> CacheIsolationType.SHARED;
+                    case "PROTECTED" -> CacheIsolationType.PROTECTED;
+                    case "ISOLATED" -> CacheIsolationType.ISOLATED;
+                    default -> throw new IllegalStateException(
+                            String.format("Unsupported cache isolation %s", cache.isolation()));
+                });
+            }
+            if (cache.expiry().isPresent()) {
+                descriptor.setCacheInvalidationPolicy(invalidationPolicy(cache.expiry()));
+            }
+            metrics.register(cache.entityClass());
+        }
+        if (session.getProfiler() == null) {
+            session.setProfiler(new CacheStatisticsProfiler(metrics));
+        } else {
+            LOGGER.log(System.Logger.Level.WARNING,
+                       () -> String.format("Session %s already has a profiler, entity cache statistics are disabled",
+                                           session.getName()));
+        }
+    }
+
+    // Batch fetching has only a global persistence unit property, so relationships are configured on mappings.
+    // Mappings have no batch size, it is taken from the query reading the source entities.
+    private static void batchFetch(Session session, BatchFetchConfig config) {
+        BatchFetchType type = switch (config.type()) {
+            case "IN" -> BatchFetchType.IN;
+            case "JOIN" -> BatchFetchType.JOIN;
+            case "EXISTS" -> BatchFetchType.EXISTS;
+            default -> throw new IllegalStateException(
+                    String.format("Unsupported batch fetch type %s", config.type()));
+        };
+        List<ForeignReferenceMapping> mappings = new ArrayList<>();
+        if (config.relationships().isEmpty()) {
+            for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+                for (DatabaseMapping mapping : descriptor.getMappings()) {
+                    if (mapping instanceof ForeignReferenceMapping relationship) {
+                        mappings.add(relationship);
+                    }
+                }
+            }
+        } else {
+            Map<String, ClassDescriptor> descriptors = new HashMap<>();
+            for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+                descriptors.put(descriptor.getJavaClassName(), descriptor);
+            }
+            for (String relationship : config.relationships()) {
+                int dot = relationship.lastIndexOf('.');
+                ClassDescriptor descriptor = descriptors.get(relationship.substring(0, dot));
+                DatabaseMapping mapping = descriptor == null
+                        ? null
+                        : descriptor.getMappingForAttributeName(relationship.substring(dot + 1));
+                if (mapping instanceof ForeignReferenceMapping foreignReference) {
+                    mappings.add(foreignReference);
+                } else {
+                    throw new PersistenceConfigException(
+                            String.format("Batch fetch configured for %s which is not an entity relationship",
+                                          relationship));
+                }
+            }
+        }
+        for (ForeignReferenceMapping mapping : mappings) {
+            mapping.setBatchFetchType(type);
+        }
+    }
+
+    // Cache type is set by persistence unit properties, instances are loaded when the deployment is finished
+    private static void referenceData(Session session, ReferenceData referenceData) {
+        Map<String, ClassDescriptor> descriptors = new HashMap<>();
+        for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+            descriptors.put(descriptor.getJavaClassName(), descriptor);
+        }
+        List<ClassDescriptor> entities = new ArrayList<>();
+        for (String entityClass : referenceData.entities()) {
+            ClassDescriptor descriptor = descriptors.get(entityClass);
+            if (descriptor == null) {
+                throw new PersistenceConfigException(
+                        String.format("Reference entity %s is not a managed entity", entityClass));
+            }
+            descriptor.setCacheIsolation(CacheIsolationType.SHARED);
+            descriptor.setCacheInvalidationPolicy(new NoExpiryCacheInvalidationPolicy());
+            entities.add(descriptor);
+        }
+        if (session instanceof ServerSession server) {
+            referenceData.session(server, entities);
+        }
+    }
+
+    // Only plain exclusive pools are replaced, shared read pool and external pools are left untouched
+    private static void instrumentPools(ServerSession server, ConnectionPoolMetrics metrics) {
+        for (ConnectionPool pool : List.copyOf(server.getConnectionPools().values())) {
+            if (pool.getClass() == ConnectionPool.class) {
+                server.addConnectionPool(
+                        new InstrumentedConnectionPool(server, pool, metrics.register(pool.getName())));
+            }
+        }
+        ConnectionPool readPool = server.getReadConnectionPool();
+        if (readPool != null && readPool.getClass() == ConnectionPool.class) {
+            server.setReadConnectionPool(
+                    new InstrumentedConnectionPool(server, readPool, metrics.register(readPool.getName())));
+        }
+    }
+
+    // Each replica gets its own pool, replica pools are selected by the session partitioning policy
+    private static void readReplicas(ServerSession server, ReadReplicasConfig config, ConnectionPoolMetrics metrics) {
+        List<InstrumentedConnectionPool> replicas = new ArrayList<>();
+        PoolConfig poolConfig = config.pool().orElseGet(PoolConfig::create);
+        List<String> connectionStrings = config.connectionStrings();
+        for (int i = 0; i < connectionStrings.size(); i++) {
+            String name = REPLICA_POOL_PREFIX + i;
+            DatabaseLogin login = (DatabaseLogin) server.getLogin().clone();
+            login.setURL(connectionStrings.get(i));
+            ConnectionPoolStatistics statistics = metrics != null
+                    ? metrics.register(name)
+                    : new ConnectionPoolStatistics(name);
+            InstrumentedConnectionPool pool = new InstrumentedConnectionPool(name, login, poolConfig, server, statistics);
+            server.addConnectionPool(pool);
+            replicas.add(pool);
+        }
+        if (!replicas.isEmpty()) {
+            server.setPartitioningPolicy(new ReplicaPartitioningPolicy(replicas, config.routing()));
+        }
+    }
+
+    /**
+     * Session customization requested by {@link PersistenceUtils}.
+     */
+    static final class Registration {
+
+        private final BootstrapRecorder bootstrap;
+        private ConnectionPoolMetrics poolMetrics;
+        private ReadReplicasConfig readReplicas;
+        private List<EntityCacheConfig> entityCaches;
+        private EntityCacheMetrics cacheMetrics;
+        private List<QueryCacheConfig> queryCaches;
+        private BatchFetchConfig batchFetch;
+        private ReferenceData referenceData;
+        private RuntimeTuning tuning;
+        private String customizer;
+
+        Registration(BootstrapRecorder bootstrap) {
+            this.bootstrap = bootstrap;
+            this.poolMetrics = null;
+            this.readReplicas = null;
+            this.entityCaches = List.of();
+            this.cacheMetrics = null;
+            this.queryCaches = List.of();
+            this.batchFetch = null;
+            this.referenceData = null;
+            this.tuning = null;
+            this.customizer = null;
+        }
+
+        Registration poolMetrics(ConnectionPoolMetrics poolMetrics) {
+            this.poolMetrics = poolMetrics;
+            return this;
+        }
+
+        Registration readReplicas(ReadReplicasConfig readReplicas) {
+            this.readReplicas = readReplicas;
+            return this;
+        }
+
+        Registration entityCaches(List<EntityCacheConfig> entityCaches, EntityCacheMetrics cacheMetrics) {
+            this.entityCaches = entityCaches;
+            this.cacheMetrics = cacheMetrics;
+            return this;
+        }
+
+        Registration queryCaches(List<QueryCacheConfig> queryCaches) {
+            this.queryCaches = queryCaches;
+            return this;
+        }
+
+        Registration batchFetch(BatchFetchConfig batchFetch) {
+            this.batchFetch = batchFetch;
+            return this;
+        }
+
+        Registration referenceData(ReferenceData referenceData) {
+            this.referenceData = referenceData;
+            return this;
+        }
+
+        Registration tuning(RuntimeTuning tuning) {
+            this.tuning = tuning;
+            return this;
+        }
+
+        Registration customizer(String customizer) {
+            this.customizer = customizer;
+            return this;
+        }
+
+    }
+
+    // Login is the first database connection, schema generation follows it in EclipseLink deployment
+    private static final class BootstrapListener extends SessionEventAdapter {
+
+        private final BootstrapRecorder bootstrap;
+
+        private BootstrapListener(BootstrapRecorder bootstrap) {
+            this.bootstrap = bootstrap;
+        }
+
+        @Override
+        public void preLogin(SessionEvent event) {
+            bootstrap.begin(BootstrapReport.CONNECTION);
+        }
+
+        @Override
+        public void postLogin(SessionEvent event) {
+            bootstrap.begin(BootstrapReport.SCHEMA_GENERATION);
+        }
+
+    }
+
+    // Named queries are added to the session with the descriptors initialization during login
+    // Queries with batch size set by the eclipselink.batch.size hint keep it
+    private static final class BatchFetchListener extends SessionEventAdapter {
+
+        private static final int DEFAULT_SIZE = new BatchFetchPolicy().getSize();
+
+        private final int size;
+
+        private BatchFetchListener(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void preExecuteQuery(SessionEvent event) {
+            if (event.getQuery() instanceof ObjectLevelReadQuery query
+                    && query.getBatchFetchPolicy().getSize() == DEFAULT_SIZE) {
+                query.getBatchFetchPolicy().setSize(size);
+            }
+        }
+
+    }
+
+    private static final class QueryCacheListener extends SessionEventAdapter {
+
+        private final List<QueryCacheConfig> queryCaches;
+
+        private QueryCacheListener(List<QueryCacheConfig> queryCaches) {
+            this.queryCaches = queryCaches;
+        }
+
+        @Override
+        public void postLogin(SessionEvent event) {
+            Session session = event.getSession();
+            for (QueryCacheConfig cache : queryCaches) {
+                DatabaseQuery query = session.getQuery(cache.query());
+                if (query instanceof ReadQuery readQuery) {
+                    QueryResultsCachePolicy policy = new QueryResultsCachePolicy(invalidationPolicy(cache.ttl()),
+                                                                                 cache.size());
+                    policy.setInvalidateOnChange(true);
+                    readQuery.setQueryResultsCachePolicy(policy);
+                } else {
+                    throw new PersistenceConfigException(
+                            String.format("Result cache configured for %s which is not a named read query",
+                                          cache.query()));
+                }
+            }
+        }
+
+    }
+
+}
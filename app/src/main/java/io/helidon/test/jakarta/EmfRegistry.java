@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Registry of shared {@link EntityManagerFactory} instances keyed by {@link PersistenceConfig}.
+ * <p>
+ * Equal {@link PersistenceConfig} values share a single underlying factory, password is compared by content. Each {@link #acquire(PersistenceConfig)}
+ * call returns a new reference to it and each reference must be closed exactly once. The underlying factory
+ * is closed when its last reference is closed. Closed reference throws {@link IllegalStateException}
+ * like a closed factory.
+ * <p>
+ * {@link #evict(PersistenceConfig)} removes the factory from the registry, so the next {@code acquire} call
+ * bootstraps a new one. References handed out before eviction stay usable until they are closed.
+ * {@link #closeAll()} removes all factories and closes them regardless of outstanding references.
+ */
+public final class EmfRegistry {
+
+    private static final System.Logger LOGGER = System.getLogger(EmfRegistry.class.getName());
+    private static final EmfRegistry GLOBAL = new EmfRegistry();
+
+    // Guarded by itself
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Create an empty registry.
+     * Most callers should use the process-wide {@link #global()} registry instead.
+     */
+    public EmfRegistry() {
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Process-wide registry.
+     *
+     * @return the process-wide registry instance
+     */
+    public static EmfRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Acquire reference to the shared {@link EntityManagerFactory} for provided config.
+     * Factory is bootstrapped on first acquisition.
+     * Closing returned instance releases the reference, it does not close the shared factory
+     * while other references exist.
+     *
+     * @param config persistence unit configuration
+     * @return reference to the shared factory
+     * @throws PersistenceConfigException when the factory could not be created
+     */
+    public EntityManagerFactory acquire(PersistenceConfig config) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(Key.of(config), key -> new Entry(key, config));
+            entry.references++;
+        }
+        try {
+            return new SharedEntityManagerFactory(entry, entry.emf());
+        } catch (RuntimeException e) {
+            release(entry);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove shared factory for provided config from the registry.
+     * Next {@link #acquire(PersistenceConfig)} call will bootstrap a new factory.
+     * Evicted factory is closed when its last reference is closed.
+     *
+     * @param config persistence unit configuration
+     * @return value of {@code true} when the factory was registered, {@code false} otherwise
+     */
+    public boolean evict(PersistenceConfig config) {
+        synchronized (entries) {
+            Entry entry = entries.remove(Key.of(config));
+            if (entry != null) {
+                entry.evicted = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Remove all shared factories from the registry and close them.
+     * Outstanding references become closed too.
+     */
+    public void closeAll() {
+        List<Entry> removed;
+        synchronized (entries) {
+            removed = new ArrayList<>(entries.values());
+            removed.forEach(entry -> entry.evicted = true);
+            entries.clear();
+        }
+        removed.forEach(Entry::close);
+    }
+
+    /**
+     * Number of shared factories currently registered.
+     *
+     * @return the number of registered factories
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Number of open references to the shared factory for provided config.
+     *
+     * @param config persistence unit configuration
+     * @return the number of open references, {@code 0} when no factory is registered
+     */
+    public int references(PersistenceConfig config) {
+        synchronized (entries) {
+            Entry entry = entries.get(Key.of(config));
+            return entry != null ? entry.references : 0;
+        }
+    }
+
+    private void release(Entry entry) {
+        boolean last;
+        synchronized (entries) {
+            last = --entry.references == 0;
+            if (last && !entry.evicted) {
+                entries.remove(entry.key, entry);
+            }
+        }
+        if (last) {
+            entry.close();
+        }
+    }
+
+    // Config equality compares the password array by identity, key compares it by content
+    private static final class Key {
+
+        private static final char[] NO_PASSWORD = new char[0];
+
+        private final PersistenceConfig config;
+        private final char[] password;
+
+        private Key(PersistenceConfig config, char[] password) {
+            this.config = config;
+            this.password = password;
+        }
+
+        private static Key of(PersistenceConfig config) {
+            return new Key(PersistenceConfig.builder()
+                                   .from(config)
+                                   .password(NO_PASSWORD)
+                                   .build(),
+                           config.password().clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return config.equals(key.config) && Arrays.equals(password, key.password);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * config.hashCode() + Arrays.hashCode(password);
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final PersistenceConfig config;
+        // Guarded by registry entries
+        private int references;
+        // Guarded by registry entries
+        private boolean evicted;
+        // Guarded by this
+        private EntityManagerFactory emf;
+
+        private Entry(Key key, PersistenceConfig config) {
+            this.key = key;
+            this.config = config;
+            this.references = 0;
+            this.evicted = false;
+            this.emf = null;
+        }
+
+        // Concurrent acquirers of the same config wait here for a single bootstrap
+        private synchronized EntityManagerFactory emf() {
+            if (emf == null) {
+                LOGGER.log(System.Logger.Level.DEBUG,
+                           () -> String.format("Creating shared EntityManagerFactory for %s",
+                                               config.persistenceUnitName()));
+                emf = PersistenceUtils.createEmf(config);
+            }
+            return emf;
+        }
+
+        private synchronized void close() {
+            if (emf != null && emf.isOpen()) {
+                LOGGER.log(System.Logger.Level.DEBUG,
+                           () -> String.format("Closing shared EntityManagerFactory for %s",
+                                               config.persistenceUnitName()));
+                emf.close();
+            }
+            emf = null;
+        }
+
+    }
+
+    private final class SharedEntityManagerFactory extends DelegatingEntityManagerFactory {
+
+        private final Entry entry;
+        private final AtomicBoolean closed;
+
+        private SharedEntityManagerFactory(Entry entry, EntityManagerFactory delegate) {
+            super(delegate);
+            this.entry = entry;
+            this.closed = new AtomicBoolean(false);
+        }
+
+        // Released reference behaves as a closed factory even while the shared factory stays open
+        @Override
+        EntityManagerFactory delegate() {
+            if (closed.get()) {
+                throw new IllegalStateException(String.format("EntityManagerFactory reference of %s is closed",
+                                                              entry.config.persistenceUnitName()));
+            }
+            return super.delegate();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed.get() && super.delegate().isOpen();
+        }
+
+        // Releases this reference only, shared factory is closed with the last one
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(entry);
+            }
+        }
+
+    }
+
+}
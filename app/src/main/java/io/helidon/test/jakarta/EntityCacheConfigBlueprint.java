@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Second-level cache of a single entity class.
+ * Applies only to entities cached according to {@link PersistenceConfig#sharedCacheMode()}.
+ */
+@Prototype.Blueprint(decorator = EntityCacheConfigBlueprint.BuilderDecorator.class)
+@Prototype.Configured
+interface EntityCacheConfigBlueprint {
+
+    /**
+     * Fully qualified name of the entity class.
+     *
+     * @return the entity class name
+     */
+    @Option.Configured
+    @Option.Required
+    String entityClass();
+
+    /**
+     * Type of the cache.
+     *
+     * @return the cache type
+     */
+    @Option.Configured
+    @Option.Default("SOFT_WEAK")
+    @Option.AllowedValue(value = "FULL", description = "All entities are cached and never evicted.")
+    @Option.AllowedValue(value = "WEAK", description = "Entities are cached only while they are referenced.")
+    @Option.AllowedValue(value = "SOFT", description = "Entities are cached until memory is needed.")
+    @Option.AllowedValue(value = "SOFT_WEAK", description = "Most recently used entities are held by soft references, "
+            + "the rest only while they are referenced.")
+    @Option.AllowedValue(value = "HARD_WEAK", description = "Most recently used entities are held by hard references, "
+            + "the rest only while they are referenced.")
+    @Option.AllowedValue(value = "NONE", description = "Entities are not cached.")
+    String type();
+
+    /**
+     * Number of cached entities. For {@code SOFT_WEAK} and {@code HARD_WEAK} caches this is the number
+     * of most recently used entities held by soft or hard references.
+     *
+     * @return the cache size
+     */
+    @Option.Configured
+    Optional<Integer> size();
+
+    /**
+     * Time after which cached entity is invalidated and read again from the database.
+     * Cached entities never expire when not set.
+     *
+     * @return the cache expiry
+     */
+    @Option.Configured
+    Optional<Duration> expiry();
+
+    /**
+     * Sharing of cached entities between entity managers.
+     *
+     * @return the cache isolation
+     */
+    @Option.Configured
+    @Option.Default("SHARED")
+    @Option.AllowedValue(value = "SHARED", description = "Entities are cached in the shared cache.")
+    @Option.AllowedValue(value = "PROTECTED", description = "Entities are cached in the shared cache, "
+            + "their relationships to isolated entities are cached in the entity manager only.")
+    @Option.AllowedValue(value = "ISOLATED", description = "Entities are cached in the entity manager only.")
+    String isolation();
+
+    /**
+     * Cache options consistency check.
+     */
+    class BuilderDecorator implements Prototype.BuilderDecorator<EntityCacheConfig.BuilderBase<?, ?>> {
+
+        BuilderDecorator() {
+        }
+
+        @Override
+        public void decorate(EntityCacheConfig.BuilderBase<?, ?> target) {
+            target.size().ifPresent(size -> {
+                if (size < 1) {
+                    throw new PersistenceConfigException(
+                            String.format("Entity cache size %d must be at least 1", size));
+                }
+            });
+            target.expiry().ifPresent(expiry -> {
+                if (expiry.isNegative() || expiry.isZero()) {
+                    throw new PersistenceConfigException(
+                            String.format("Entity cache expiry %s must be positive", expiry));
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Second-level cache statistics of entities configured in {@link PersistenceConfig#entityCaches()}.
+ * Available from {@link jakarta.persistence.EntityManagerFactory} created by {@link PersistenceUtils}
+ * when at least one entity cache is configured:
+ * <pre>{@code
+ * EntityCacheMetrics metrics = emf.unwrap(EntityCacheMetrics.class);
+ * }</pre>
+ */
+public final class EntityCacheMetrics {
+
+    private final Map<String, EntityCacheStatistics> caches;
+
+    EntityCacheMetrics() {
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Statistics of all configured entity caches.
+     *
+     * @return cache statistics mapped by entity class name
+     */
+    public Map<String, EntityCacheStatistics> caches() {
+        return Map.copyOf(caches);
+    }
+
+    /**
+     * Statistics of a single entity cache.
+     *
+     * @param entityClass entity class name
+     * @return the cache statistics or empty value when no cache is configured for the entity
+     */
+    public Optional<EntityCacheStatistics> cache(String entityClass) {
+        return Optional.ofNullable(caches.get(entityClass));
+    }
+
+    EntityCacheStatistics register(String entityClass) {
+        return caches.computeIfAbsent(entityClass, EntityCacheStatistics::new);
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache statistics of a single entity class.
+ * Counts lookups of entities by their identity, such as {@link jakarta.persistence.EntityManager#find(Class, Object)}
+ * or loading of {@code ManyToOne} relationships. Lookup is a hit when the entity is found in the persistence
+ * context or in the second-level cache.
+ */
+public final class EntityCacheStatistics {
+
+    private final String entityClass;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    EntityCacheStatistics(String entityClass) {
+        this.entityClass = entityClass;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * Fully qualified name of the entity class.
+     *
+     * @return the entity class name
+     */
+    public String entityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Number of lookups served from the cache.
+     *
+     * @return the hits count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups which had to read the entity from the database.
+     *
+     * @return the misses count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Ratio of lookups served from the cache.
+     *
+     * @return the hit ratio between {@code 0} and {@code 1}, {@code 0} when there was no lookup yet
+     */
+    public double hitRatio() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s {entityClass=%s, hits=%d, misses=%d}",
+                             getClass().getSimpleName(), entityClass, hits(), misses());
+    }
+
+    void hit() {
+        hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+}
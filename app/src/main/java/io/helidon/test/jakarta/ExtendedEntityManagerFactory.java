@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * {@link EntityManagerFactory} created by {@link PersistenceUtils}.
+ * Exposes additional services, such as {@link ConnectionPoolMetrics}, through {@link #unwrap(Class)}.
+ */
+final class ExtendedEntityManagerFactory extends DelegatingEntityManagerFactory {
+
+    private final Map<Class<?>, Object> extensions;
+    private final List<Runnable> closeHandlers;
+
+    ExtendedEntityManagerFactory(EntityManagerFactory delegate,
+                                 Map<Class<?>, Object> extensions,
+                                 List<Runnable> closeHandlers) {
+        super(delegate);
+        this.extensions = Map.copyOf(extensions);
+        this.closeHandlers = List.copyOf(closeHandlers);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> cls) {
+        Object extension = extensions.get(cls);
+        if (extension != null) {
+            return cls.cast(extension);
+        }
+        return super.unwrap(cls);
+    }
+
+    @Override
+    public void close() {
+        try {
+            super.close();
+        } finally {
+            closeHandlers.forEach(Runnable::run);
+        }
+    }
+
+}
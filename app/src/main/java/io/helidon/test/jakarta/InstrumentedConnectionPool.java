@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+/**
+ * EclipseLink {@link ConnectionPool} which records {@link ConnectionPoolStatistics}.
+ */
+final class InstrumentedConnectionPool extends ConnectionPool {
+
+    private final ConnectionPoolStatistics statistics;
+
+    InstrumentedConnectionPool(String name,
+                               Login login,
+                               PoolConfig pool,
+                               ServerSession owner,
+                               ConnectionPoolStatistics statistics) {
+        super(name,
+              login,
+              pool.initial().orElse(INITIAL_CONNECTIONS),
+              pool.min().orElse(MIN_CONNECTIONS),
+              pool.max().orElse(MAX_CONNECTIONS),
+              owner);
+        pool.waitTimeout().ifPresent(timeout -> setWaitTimeout((int) timeout.toMillis()));
+        this.statistics = statistics;
+    }
+
+    InstrumentedConnectionPool(ServerSession owner, ConnectionPool pool, ConnectionPoolStatistics statistics) {
+        super(pool.getName(),
+              pool.getLogin(),
+              pool.getInitialNumberOfConnections(),
+              pool.getMinNumberOfConnections(),
+              pool.getMaxNumberOfConnections(),
+              owner);
+        setWaitTimeout(pool.getWaitTimeout());
+        setFailoverConnectionPools(pool.getFailoverConnectionPools());
+        this.statistics = statistics;
+    }
+
+    ConnectionPoolStatistics statistics() {
+        return statistics;
+    }
+
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        long start = System.nanoTime();
+        Accessor accessor;
+        try {
+            accessor = super.acquireConnection();
+        } catch (ConcurrencyException e) {
+            statistics.timedOut(System.nanoTime() - start);
+            throw e;
+        }
+        statistics.acquired(System.nanoTime() - start);
+        return accessor;
+    }
+
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        statistics.released();
+        super.releaseConnection(connection);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Build-time index of persistence managed classes.
+ * Index resources are written by {@code io.helidon.test.processor.ManagedClassIndexProcessor}
+ * and contain one binary class name per line.
+ */
+final class ManagedClassIndex {
+
+    // Must match ManagedClassIndexProcessor.INDEX_RESOURCE
+    static final String INDEX_RESOURCE = "META-INF/helidon-test/managed-classes";
+
+    private ManagedClassIndex() {
+        throw new UnsupportedOperationException("No instances of ManagedClassIndex are allowed");
+    }
+
+    /**
+     * Read managed class names from all index resources visible to provided class loader.
+     *
+     * @param classLoader class loader to search index resources
+     * @return managed class names, empty list when no index is present
+     */
+    static List<String> load(ClassLoader classLoader) {
+        Set<String> classes = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_RESOURCE);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty())
+                            .forEach(classes::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new PersistenceConfigException(
+                    String.format("Could not read managed classes index %s", INDEX_RESOURCE), e);
+        }
+        return List.copyOf(classes);
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Bootstrap of multiple persistence units in parallel.
+ * Result completes exceptionally as soon as any unit fails. Factories of units which were already created
+ * or are created later are closed. Failures of other units observed later are attached as suppressed exceptions.
+ * Factories are closed the same way when the caller completes the result first, e.g. by cancelling it
+ * or with a timeout.
+ */
+final class ParallelBootstrap {
+
+    private static final System.Logger LOGGER = System.getLogger(ParallelBootstrap.class.getName());
+
+    private final List<PersistenceConfig> configs;
+    private final Executor executor;
+    private final CompletableFuture<List<PersistenceUnitStartup>> result;
+    // Guarded by this
+    private final PersistenceUnitStartup[] started;
+    // Guarded by this
+    private int remaining;
+    // Guarded by this
+    private PersistenceConfigException failure;
+
+    private ParallelBootstrap(List<PersistenceConfig> configs, Executor executor) {
+        this.configs = List.copyOf(configs);
+        this.executor = executor;
+        this.result = new CompletableFuture<>();
+        this.started = new PersistenceUnitStartup[this.configs.size()];
+        this.remaining = this.configs.size();
+        this.failure = null;
+    }
+
+    static CompletableFuture<List<PersistenceUnitStartup>> start(List<PersistenceConfig> configs, Executor executor) {
+        return new ParallelBootstrap(configs, executor).start();
+    }
+
+    static PersistenceUnitStartup startUnit(PersistenceConfig config) {
+        long start = System.nanoTime();
+        try {
+            EntityManagerFactory emf = PersistenceUtils.createEmf(config);
+            Duration startupTime = Duration.ofNanos(System.nanoTime() - start);
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       () -> String.format("Persistence unit %s started in %d ms",
+                                           config.persistenceUnitName(), startupTime.toMillis()));
+            return new PersistenceUnitStartup(config, emf, startupTime);
+        } catch (RuntimeException e) {
+            throw new PersistenceConfigException(
+                    String.format("Could not bootstrap persistence unit \"%s\"", config.persistenceUnitName()), e);
+        }
+    }
+
+    static CompletableFuture<EntityManagerFactory> startOne(PersistenceConfig config, Executor executor) {
+        CompletableFuture<EntityManagerFactory> result = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> startUnit(config), executor)
+                .whenComplete((startup, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(unwrap(t));
+                    } else if (!result.complete(startup.emf())) {
+                        // Cancelled or timed out by the caller
+                        discard(startup);
+                    }
+                });
+        return result;
+    }
+
+    private CompletableFuture<List<PersistenceUnitStartup>> start() {
+        if (configs.isEmpty()) {
+            result.complete(List.of());
+            return result;
+        }
+        for (int i = 0; i < configs.size(); i++) {
+            int index = i;
+            PersistenceConfig config = configs.get(i);
+            CompletableFuture.supplyAsync(() -> startUnit(config), executor)
+                    .whenComplete((startup, t) -> completed(index, startup, t));
+        }
+        return result;
+    }
+
+    private synchronized void completed(int index, PersistenceUnitStartup startup, Throwable t) {
+        if (t != null) {
+            Throwable cause = unwrap(t);
+            if (failure == null) {
+                failure = cause instanceof PersistenceConfigException pce
+                        ? pce
+                        : new PersistenceConfigException(
+                                String.format("Could not bootstrap persistence unit \"%s\"",
+                                              configs.get(index).persistenceUnitName()), cause);
+                discardStarted();
+                result.completeExceptionally(failure);
+            } else {
+                failure.addSuppressed(cause);
+            }
+        } else if (failure != null) {
+            discard(startup);
+        } else if (result.isDone()) {
+            // Cancelled or timed out by the caller, nobody receives the factories
+            discardStarted();
+            discard(startup);
+        } else {
+            started[index] = startup;
+            if (--remaining == 0) {
+                result.complete(List.of(started));
+            }
+        }
+    }
+
+    private void discardStarted() {
+        Arrays.stream(started)
+                .filter(Objects::nonNull)
+                .forEach(ParallelBootstrap::discard);
+        Arrays.fill(started, null);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    private static void discard(PersistenceUnitStartup startup) {
+        try {
+            if (startup.emf().isOpen()) {
+                startup.emf().close();
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING,
+                       String.format("Could not close persistence unit %s", startup.persistenceUnitName()), e);
+        }
+    }
+
+}
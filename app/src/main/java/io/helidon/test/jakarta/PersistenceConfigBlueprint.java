@@ -15,8 +15,10 @@
  */
 package io.helidon.test.jakarta;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
@@ -45,6 +47,7 @@ interface PersistenceConfigBlueprint {
 
     /**
      * Database connection string.
+     * This is the primary database when {@link #readReplicas()} are configured.
      *
      * @return the connection string
      */
@@ -82,6 +85,7 @@ interface PersistenceConfigBlueprint {
 
     /**
      * Managed persistence entities.
+     * When empty, classes from the build-time managed classes index are used.
      *
      * @return the entities list
      */
@@ -132,6 +136,86 @@ interface PersistenceConfigBlueprint {
             + "may apply.")
     String sharedCacheMode();
 
+    /**
+     * Second-level cache of individual entity classes.
+     * Entity classes which are not listed use the persistence provider defaults.
+     *
+     * @return the entity caches configuration
+     */
+    @Option.Configured
+    @Option.Singular("entityCache")
+    List<EntityCacheConfig> entityCaches();
+
+    /**
+     * Entity classes holding small and static reference data.
+     * All their instances are loaded into a second-level cache without size limit and expiry when the factory
+     * is created, so relationships of other entities are resolved without database access.
+     * Cached instances are reloaded by {@link ReferenceData#refresh()}.
+     *
+     * @return the reference entity class names
+     */
+    @Option.Configured
+    @Option.Singular("referenceEntity")
+    List<String> referenceEntities();
+
+    /**
+     * Result caches of named queries. Results of other queries are not cached.
+     *
+     * @return the query caches configuration
+     */
+    @Option.Configured
+    @Option.Singular("queryCache")
+    List<QueryCacheConfig> queryCaches();
+
+    /**
+     * Default timeout of queries. Queries are not limited when not set.
+     *
+     * @return the query timeout
+     */
+    @Option.Configured
+    Optional<Duration> queryTimeout();
+
+    /**
+     * Read replicas of the database.
+     *
+     * @return the read replicas configuration
+     */
+    @Option.Configured
+    Optional<ReadReplicasConfig> readReplicas();
+
+    /**
+     * JDBC connection pools.
+     *
+     * @return the connection pools configuration
+     */
+    @Option.Configured
+    Optional<ConnectionPoolConfig> connectionPool();
+
+    /**
+     * JDBC batch writing.
+     *
+     * @return the batch writing configuration
+     */
+    @Option.Configured
+    Optional<BatchWritingConfig> batchWriting();
+
+    /**
+     * Batch fetching of relationships.
+     *
+     * @return the batch fetch configuration
+     */
+    @Option.Configured
+    Optional<BatchFetchConfig> batchFetch();
+
+    /**
+     * Number of prepared statements cached for each connection.
+     * Statement caching is disabled when not set.
+     *
+     * @return the statement cache size
+     */
+    @Option.Configured
+    Optional<Integer> statementCacheSize();
+
     /**
      * Additional persistence unit or connection properties.
      *
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Persistence unit bootstrapped by {@link PersistenceUtils#createEmfsAsync(io.helidon.common.config.Config)}.
+ *
+ * @param config persistence unit configuration
+ * @param emf created {@link EntityManagerFactory}
+ * @param startupTime time spent in the {@link EntityManagerFactory} creation
+ */
+public record PersistenceUnitStartup(PersistenceConfig config, EntityManagerFactory emf, Duration startupTime) {
+
+    /**
+     * Persistence unit name.
+     *
+     * @return the persistence unit name
+     */
+    public String persistenceUnitName() {
+        return config.persistenceUnitName();
+    }
+
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.common.config.Config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceConfiguration;
+import jakarta.persistence.PersistenceUnitTransactionType;
+import jakarta.persistence.SharedCacheMode;
+import jakarta.persistence.ValidationMode;
+
+public class PersistenceUtils {
+
+    private static final System.Logger LOGGER = System.getLogger(PersistenceUtils.class.getName());
+
+    // Bootstrap is mostly blocked on JDBC and class loading, virtual threads are sufficient
+    private static final ThreadFactory BOOTSTRAP_THREADS = Thread.ofVirtual().name("emf-bootstrap-", 0).factory();
+    private static final Executor BOOTSTRAP_EXECUTOR = task -> BOOTSTRAP_THREADS.newThread(task).start();
+    private static final String ECLIPSELINK_PROVIDER = "org.eclipse.persistence.jpa.PersistenceProvider";
+    private static final String POOL_PREFIX = "eclipselink.connection-pool.";
+    private static final String CACHE_TYPE_PREFIX = "eclipselink.cache.type.";
+    private static final String CACHE_SIZE_PREFIX = "eclipselink.cache.size.";
+    private static final AtomicLong SESSION_IDS = new AtomicLong(0);
+
+    public static EntityManagerFactory createEmf(PersistenceConfig config) {
+        return new EmfBuilder(config).build();
+    }
+
+    /**
+     * Create {@link EntityManagerFactory} from provided config node and keep its runtime tunables in sync
+     * with the node. Each change of the node is passed to {@link RuntimeTuning#apply(PersistenceConfig)},
+     * options which require a new factory are logged. Changes are detected only for config sources
+     * with change support, such as watched files. Runtime tuning is available only when EclipseLink
+     * is the persistence provider, changes of other factories are not watched.
+     *
+     * @param config persistence unit config node
+     * @return new factory
+     */
+    public static EntityManagerFactory createEmf(io.helidon.config.Config config) {
+        EmfBuilder builder = new EmfBuilder(PersistenceConfig.create(config));
+        EntityManagerFactory emf = builder.build();
+        RuntimeTuning tuning = builder.tuning;
+        if (tuning == null) {
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       () -> String.format("No runtime tuning of %s, configuration changes are not watched",
+                                           builder.config.persistenceUnitName()));
+            return emf;
+        }
+        config.onChange(node -> {
+            if (tuning.closed()) {
+                return;
+            }
+            try {
+                tuning.apply(PersistenceConfig.create(node));
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING,
+                           String.format("Changed configuration of %s was not applied",
+                                         tuning.config().persistenceUnitName()),
+                           e);
+            }
+        });
+        return emf;
+    }
+
+    /**
+     * Acquire shared {@link EntityManagerFactory} from the process-wide {@link EmfRegistry}.
+     * Returned factory must be closed to release the reference.
+     *
+     * @param config persistence unit configuration
+     * @return reference to the shared factory
+     */
+    public static EntityManagerFactory sharedEmf(PersistenceConfig config) {
+        return EmfRegistry.global().acquire(config);
+    }
+
+    /**
+     * Create {@link EntityManagerFactory} asynchronously on a virtual thread.
+     *
+     * @param config persistence unit configuration
+     * @return future completed with the factory or with {@link PersistenceConfigException}
+     */
+    public static CompletableFuture<EntityManagerFactory> createEmfAsync(PersistenceConfig config) {
+        return createEmfAsync(config, BOOTSTRAP_EXECUTOR);
+    }
+
+    /**
+     * Create {@link EntityManagerFactory} asynchronously using provided executor.
+     * Factory created after the returned future was cancelled or timed out is closed.
+     *
+     * @param config persistence unit configuration
+     * @param executor executor running the bootstrap
+     * @return future completed with the factory or with {@link PersistenceConfigException}
+     */
+    public static CompletableFuture<EntityManagerFactory> createEmfAsync(PersistenceConfig config, Executor executor) {
+        return ParallelBootstrap.startOne(config, executor);
+    }
+
+    /**
+     * Create {@link EntityManagerFactory} instances for all persistence units of provided config list node
+     * in parallel. Each list element is a {@link PersistenceConfig} node.
+     * Returned future completes exceptionally with {@link PersistenceConfigException} as soon as any unit fails
+     * and all factories created by this call are closed.
+     *
+     * @param config config list node with persistence units
+     * @return future completed with started units in config order, or with {@link PersistenceConfigException}
+     *         when the config node can't be mapped
+     */
+    public static CompletableFuture<List<PersistenceUnitStartup>> createEmfsAsync(Config config) {
+        List<PersistenceConfig> configs;
+        try {
+            configs = config.mapList(PersistenceConfig::create).orElseGet(List::of);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new PersistenceConfigException(
+                    String.format("Could not read persistence units from %s", config.key()), e));
+        }
+        return createEmfsAsync(configs, BOOTSTRAP_EXECUTOR);
+    }
+
+    /**
+     * Create {@link EntityManagerFactory} instances for provided persistence units in parallel.
+     * Returned future completes exceptionally with {@link PersistenceConfigException} as soon as any unit fails
+     * and all factories created by this call are closed. Factories are closed the same way when the returned
+     * future is cancelled or timed out before all units started.
+     *
+     * @param configs persistence units configuration
+     * @param executor executor running the bootstrap of each unit
+     * @return future completed with started units in provided order
+     */
+    public static CompletableFuture<List<PersistenceUnitStartup>> createEmfsAsync(List<PersistenceConfig> configs,
+                                                                                  Executor executor) {
+        return ParallelBootstrap.start(configs, executor);
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : PersistenceUtils.class.getClassLoader();
+    }
+
+    private PersistenceUtils() {
+        throw new UnsupportedOperationException("No instances of PersistenceUtils are allowed");
+    }
+
+    private static class EmfBuilder {
+
+        private final PersistenceConfiguration pc;
+        private final PersistenceConfig config;
+        private final Map<Class<?>, Object> extensions;
+        private final List<Runnable> closeHandlers;
+        private final ClassLoader classLoader;
+        private final BootstrapRecorder bootstrap;
+        // Set only with EclipseLink session customizer
+        private EclipseLinkSessionCustomizer.Registration registration;
+        private RuntimeTuning tuning;
+
+        private EmfBuilder(PersistenceConfig config) {
+            this.pc = new PersistenceConfiguration(config.persistenceUnitName());
+            this.config = config;
+            this.extensions = new HashMap<>();
+            this.closeHandlers = new ArrayList<>();
+            this.classLoader = classLoader();
+            this.bootstrap = new BootstrapRecorder(config.persistenceUnitName());
+            this.registration = null;
+            this.tuning = null;
+        }
+
+        private EntityManagerFactory build() {
+            bootstrap.begin(BootstrapReport.CLASS_LOADING);
+            managedClasses().forEach(this::managedClass);
+            bootstrap.begin(BootstrapReport.CONFIGURATION);
+            if (!config.providerClassName().isEmpty()) {
+                pc.provider(config.providerClassName());
+            }
+            pc.property("jakarta.persistence.jdbc.url", config.connectionString());
+            pc.property("jakarta.persistence.jdbc.user", config.username());
+            pc.property("jakarta.persistence.jdbc.password", new String(config.password()));
+            pc.property("jakarta.persistence.jdbc.driver", config.jdbcDriverClassName());
+            pc.transactionType(switch (config.transactionType()) {
+                case "RESOURCE_LOCAL" -> PersistenceUnitTransactionType.RESOURCE_LOCAL;
+                case "JTA" -> PersistenceUnitTransactionType.JTA;
+                default -> throw new IllegalStateException(
+                        String.format("Unsupported PersistenceUnitTransactionType %s", config.transactionType()));
+            });
+            pc.validationMode(switch (config.validationMode()) {
+                case "AUTO" -> ValidationMode.AUTO;
+                case "CALLBACK" -> ValidationMode.CALLBACK;
+                case "NONE" -> ValidationMode.NONE;
+                default -> throw new IllegalStateException(
+                        String.format("Unsupported ValidationMode %s", config.validationMode()));
+            });
+            pc.sharedCacheMode(switch (config.sharedCacheMode()){
+                case "ALL" -> SharedCacheMode.ALL;
+                case "NONE" -> SharedCacheMode.NONE;
+                case "ENABLE_SELECTIVE" -> SharedCacheMode.ENABLE_SELECTIVE;
+                case "DISABLE_SELECTIVE" -> SharedCacheMode.DISABLE_SELECTIVE;
+                case "UNSPECIFIED" -> SharedCacheMode.UNSPECIFIED;
+                default -> throw new IllegalStateException(
+                        String.format("Unsupported SharedCacheMode %s", config.sharedCacheMode()));
+            });
+            entityCaches();
+            referenceEntities();
+            queryCaches();
+            config.connectionPool().ifPresent(this::connectionPool);
+            if (config.readReplicas().isPresent()) {
+                // EclipseLink begins the database transaction on the first write, so reads of a transaction would go
+                // to a replica until then. Joining the transaction on its first use keeps it on the primary.
+                pc.property("eclipselink.transaction.join-existing", "true");
+            }
+            config.batchWriting().ifPresent(this::batchWriting);
+            config.statementCacheSize().ifPresent(this::statementCache);
+            config.queryTimeout().ifPresent(timeout -> pc.property("jakarta.persistence.query.timeout",
+                                                                   Long.toString(timeout.toMillis())));
+            config.properties().forEach(pc::property);
+            if (eclipseLinkCustomizer()) {
+                sessionCustomizer();
+            }
+            bootstrap.begin(BootstrapReport.METADATA);
+            EntityManagerFactory emf;
+            try {
+                emf = Persistence.createEntityManagerFactory(pc);
+            } catch (RuntimeException e) {
+                closeHandlers.forEach(Runnable::run);
+                throw e;
+            }
+            if (registration != null && !config.referenceEntities().isEmpty()) {
+                bootstrap.begin(BootstrapReport.REFERENCE_DATA);
+                try {
+                    ((ReferenceData) extensions.get(ReferenceData.class)).refresh();
+                } catch (RuntimeException e) {
+                    emf.close();
+                    closeHandlers.forEach(Runnable::run);
+                    throw e;
+                }
+            }
+            BootstrapReport report = bootstrap.finish();
+            LOGGER.log(System.Logger.Level.INFO, report::toString);
+            extensions.put(BootstrapReport.class, report);
+            return new ExtendedEntityManagerFactory(emf, extensions, closeHandlers);
+        }
+
+        // Typed pool options are mapped onto EclipseLink properties, other providers ignore them
+        private void connectionPool(ConnectionPoolConfig pool) {
+            pool.write().ifPresent(write -> poolProperties(ConnectionPoolMetrics.WRITE_POOL, write));
+            pool.read().ifPresent(read -> poolProperties(ConnectionPoolMetrics.READ_POOL, read));
+            pc.property(POOL_PREFIX + ConnectionPoolMetrics.READ_POOL + ".shared", Boolean.toString(pool.readShared()));
+            pool.queryRetryAttempts()
+                    .ifPresent(attempts -> pc.property("eclipselink.jdbc.query-retry-attempt-count",
+                                                       Integer.toString(attempts)));
+            pool.reconnectDelay()
+                    .ifPresent(delay -> pc.property("eclipselink.jdbc.delay-between-reconnects",
+                                                    Long.toString(delay.toMillis())));
+        }
+
+        private void poolProperties(String name, PoolConfig pool) {
+            pool.initial().ifPresent(initial -> pc.property(POOL_PREFIX + name + ".initial", Integer.toString(initial)));
+            pool.min().ifPresent(min -> pc.property(POOL_PREFIX + name + ".min", Integer.toString(min)));
+            pool.max().ifPresent(max -> pc.property(POOL_PREFIX + name + ".max", Integer.toString(max)));
+            pool.waitTimeout()
+                    .ifPresent(timeout -> pc.property(POOL_PREFIX + name + ".wait", Long.toString(timeout.toMillis())));
+        }
+
+        private void entityCaches() {
+            Set<String> entityClasses = new HashSet<>();
+            for (EntityCacheConfig cache : config.entityCaches()) {
+                String entityClass = cache.entityClass();
+                if (!entityClasses.add(entityClass)) {
+                    throw new PersistenceConfigException(
+                            String.format("Cache of %s is configured more than once", entityClass));
+                }
+                pc.property(CACHE_TYPE_PREFIX + entityClass, switch (cache.type()) {
+                    case "FULL" -> "Full";
+                    case "WEAK" -> "Weak";
+                    case "SOFT" -> "Soft";
+                    case "SOFT_WEAK" -> "SoftWeak";
+                    case "HARD_WEAK" -> "HardWeak";
+                    case "NONE" -> "NONE";
+                    default -> throw new IllegalStateException(
+                            String.format("Unsupported entity cache type %s", cache.type()));
+                });
+                cache.size().ifPresent(size -> pc.property(CACHE_SIZE_PREFIX + entityClass, Integer.toString(size)));
+            }
+        }
+
+        // Reference entities are always fully cached, so they can't have their own cache configuration
+        private void referenceEntities() {
+            Set<String> cached = new HashSet<>();
+            config.entityCaches().forEach(cache -> cached.add(cache.entityClass()));
+            Set<String> entityClasses = new HashSet<>();
+            for (String entityClass : config.referenceEntities()) {
+                if (!entityClasses.add(entityClass)) {
+                    throw new PersistenceConfigException(
+                            String.format("Reference entity %s is configured more than once", entityClass));
+                }
+                if (cached.contains(entityClass)) {
+                    throw new PersistenceConfigException(
+                            String.format("Reference entity %s must not have entity cache configured", entityClass));
+                }
+                pc.property(CACHE_TYPE_PREFIX + entityClass, "Full");
+            }
+        }
+
+        private void queryCaches() {
+            Set<String> queries = new HashSet<>();
+            for (QueryCacheConfig cache : config.queryCaches()) {
+                if (!queries.add(cache.query())) {
+                    throw new PersistenceConfigException(
+                            String.format("Result cache of %s is configured more than once", cache.query()));
+                }
+            }
+        }
+
+        private void batchWriting(BatchWritingConfig batchWriting) {
+            pc.property("eclipselink.jdbc.batch-writing", switch (batchWriting.mode()) {
+                case "JDBC" -> "JDBC";
+                case "BUFFERED" -> "Buffered";
+                case "ORACLE_JDBC" -> "Oracle-JDBC";
+                case "NONE" -> "None";
+                default -> throw new IllegalStateException(
+                        String.format("Unsupported batch writing mode %s", batchWriting.mode()));
+            });
+            pc.property("eclipselink.jdbc.batch-writing.size", Integer.toString(batchWriting.size()));
+        }
+
+        private void statementCache(int size) {
+            if (size < 1) {
+                throw new PersistenceConfigException(
+                        String.format("Statement cache size %d must be at least 1", size));
+            }
+            pc.property("eclipselink.jdbc.cache-statements", "true");
+            pc.property("eclipselink.jdbc.cache-statements.size", Integer.toString(size));
+        }
+
+        // Session customizer loads EclipseLink classes, so it is installed only when EclipseLink is the provider.
+        // It is installed for every EclipseLink unit, so connection and schema generation are always reported.
+        private boolean eclipseLinkCustomizer() {
+            String provider = config.providerClassName();
+            return provider.isEmpty() ? eclipseLinkPresent() : provider.equals(ECLIPSELINK_PROVIDER);
+        }
+
+        private boolean eclipseLinkPresent() {
+            try {
+                Class.forName(ECLIPSELINK_PROVIDER, false, classLoader);
+                return true;
+            } catch (ClassNotFoundException e) {
+                return false;
+            }
+        }
+
+        // EclipseLink session customizer finds its registration by unique session name
+        private void sessionCustomizer() {
+            registration = new EclipseLinkSessionCustomizer.Registration(bootstrap);
+            String sessionName = config.properties().getOrDefault(
+                    EclipseLinkSessionCustomizer.SESSION_NAME,
+                    config.persistenceUnitName() + "-" + SESSION_IDS.incrementAndGet());
+            config.connectionPool()
+                    .filter(ConnectionPoolConfig::statistics)
+                    .ifPresent(pool -> {
+                        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics();
+                        registration.poolMetrics(metrics);
+                        extensions.put(ConnectionPoolMetrics.class, metrics);
+                    });
+            config.readReplicas().ifPresent(registration::readReplicas);
+            if (!config.entityCaches().isEmpty()) {
+                EntityCacheMetrics metrics = new EntityCacheMetrics();
+                registration.entityCaches(config.entityCaches(), metrics);
+                extensions.put(EntityCacheMetrics.class, metrics);
+            }
+            registration.queryCaches(config.queryCaches());
+            config.batchFetch().ifPresent(registration::batchFetch);
+            if (!config.referenceEntities().isEmpty()) {
+                ReferenceData referenceData = new ReferenceData(config.persistenceUnitName(), config.referenceEntities());
+                registration.referenceData(referenceData);
+                extensions.put(ReferenceData.class, referenceData);
+                closeHandlers.add(referenceData::close);
+            }
+            tuning = new RuntimeTuning(config);
+            registration.tuning(tuning);
+            extensions.put(RuntimeTuning.class, tuning);
+            closeHandlers.add(tuning::close);
+            registration.customizer(config.properties().get(EclipseLinkSessionCustomizer.SESSION_CUSTOMIZER));
+            EclipseLinkSessionCustomizer.register(sessionName, registration);
+            pc.property(EclipseLinkSessionCustomizer.SESSION_NAME, sessionName);
+            pc.property(EclipseLinkSessionCustomizer.SESSION_CUSTOMIZER, EclipseLinkSessionCustomizer.class.getName());
+            // Deploy in createEntityManagerFactory, so all bootstrap phases are part of the report
+            if (!config.properties().containsKey(EclipseLinkSessionCustomizer.DEPLOY_ON_STARTUP)) {
+                pc.property(EclipseLinkSessionCustomizer.DEPLOY_ON_STARTUP, "true");
+            }
+            closeHandlers.add(() -> EclipseLinkSessionCustomizer.unregister(sessionName));
+        }
+
+        // Build-time index replaces missing managed-classes list
+        private List<String> managedClasses() {
+            if (!config.managedClasses().isEmpty()) {
+                return config.managedClasses();
+            }
+            List<String> indexed = ManagedClassIndex.load(classLoader);
+            if (indexed.isEmpty()) {
+                LOGGER.log(System.Logger.Level.WARNING,
+                           () -> String.format("No managed classes configured for %s and no index found",
+                                               config.persistenceUnitName()));
+            }
+            return indexed;
+        }
+
+        private void managedClass(String className) {
+            try {
+                pc.managedClass(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new PersistenceConfigException(
+                        String.format("Could not add \"%s\" class to persistence config", className), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Sizing of a single JDBC connection pool.
+ * Options which are not set keep the persistence provider defaults.
+ */
+@Prototype.Blueprint(decorator = PoolConfigBlueprint.BuilderDecorator.class)
+@Prototype.Configured
+interface PoolConfigBlueprint {
+
+    /**
+     * Number of connections opened when the pool is started.
+     *
+     * @return the initial number of connections
+     */
+    @Option.Configured
+    Optional<Integer> initial();
+
+    /**
+     * Number of connections kept open in the pool. Released connections above this limit are closed.
+     *
+     * @return the minimal number of connections
+     */
+    @Option.Configured
+    Optional<Integer> min();
+
+    /**
+     * Maximal number of connections in the pool.
+     *
+     * @return the maximal number of connections
+     */
+    @Option.Configured
+    Optional<Integer> max();
+
+    /**
+     * Maximal time to wait for a free connection when the pool is exhausted.
+     *
+     * @return the wait timeout
+     */
+    @Option.Configured
+    Optional<Duration> waitTimeout();
+
+    /**
+     * Pool sizing consistency check.
+     */
+    class BuilderDecorator implements Prototype.BuilderDecorator<PoolConfig.BuilderBase<?, ?>> {
+
+        BuilderDecorator() {
+        }
+
+        @Override
+        public void decorate(PoolConfig.BuilderBase<?, ?> target) {
+            target.initial().ifPresent(initial -> positive("initial", initial, 0));
+            target.min().ifPresent(min -> positive("min", min, 0));
+            target.max().ifPresent(max -> positive("max", max, 1));
+            target.max().ifPresent(max -> {
+                target.min().ifPresent(min -> notAbove("min", min, max));
+                target.initial().ifPresent(initial -> notAbove("initial", initial, max));
+            });
+            target.waitTimeout().ifPresent(timeout -> {
+                if (timeout.isNegative()) {
+                    throw new PersistenceConfigException(
+                            String.format("Connection pool wait-timeout %s must not be negative", timeout));
+                }
+            });
+        }
+
+        private static void positive(String name, int value, int lowest) {
+            if (value < lowest) {
+                throw new PersistenceConfigException(
+                        String.format("Connection pool %s value %d must be at least %d", name, value, lowest));
+            }
+        }
+
+        private static void notAbove(String name, int value, int max) {
+            if (value > max) {
+                throw new PersistenceConfigException(
+                        String.format("Connection pool %s value %d is greater than max value %d", name, value, max));
+            }
+        }
+
+    }
+
+}
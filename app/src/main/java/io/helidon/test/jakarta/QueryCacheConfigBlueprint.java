@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Result cache of a single named query.
+ * Results are cached for each combination of query parameter values and the whole cache of the query
+ * is invalidated when an entity of the queried type is written through the same
+ * {@link jakarta.persistence.EntityManagerFactory}. Writes from other applications are not detected,
+ * only the {@link #ttl()} limits how long their changes remain invisible.
+ */
+@Prototype.Blueprint(decorator = QueryCacheConfigBlueprint.BuilderDecorator.class)
+@Prototype.Configured
+interface QueryCacheConfigBlueprint {
+
+    /**
+     * Name of the named query.
+     *
+     * @return the query name
+     */
+    @Option.Configured
+    @Option.Required
+    String query();
+
+    /**
+     * Number of cached results, one for each combination of parameter values.
+     *
+     * @return the cache size
+     */
+    @Option.Configured
+    @Option.DefaultInt(100)
+    int size();
+
+    /**
+     * Time after which cached result is invalidated and the query is executed again.
+     * Cached results are only invalidated by writes when not set.
+     *
+     * @return the cached result time to live
+     */
+    @Option.Configured
+    Optional<Duration> ttl();
+
+    /**
+     * Query cache options consistency check.
+     */
+    class BuilderDecorator implements Prototype.BuilderDecorator<QueryCacheConfig.BuilderBase<?, ?>> {
+
+        BuilderDecorator() {
+        }
+
+        @Override
+        public void decorate(QueryCacheConfig.BuilderBase<?, ?> target) {
+            if (target.size() < 1) {
+                throw new PersistenceConfigException(
+                        String.format("Query cache size %d must be at least 1", target.size()));
+            }
+            target.ttl().ifPresent(ttl -> {
+                if (ttl.isNegative() || ttl.isZero()) {
+                    throw new PersistenceConfigException(
+                            String.format("Query cache ttl %s must be positive", ttl));
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Read replicas of the primary database.
+ * Only queries marked as read-only (the {@code eclipselink.read-only} query hint) and executed outside
+ * of a transaction are routed to replicas, so their results may lag behind the primary.
+ * All other queries, writes and transactions use the primary database.
+ * Replicas are accessed with the primary database username and password.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface ReadReplicasConfigBlueprint {
+
+    /**
+     * Read replicas connection strings.
+     *
+     * @return the connection strings
+     */
+    @Option.Configured
+    @Option.Singular("connectionString")
+    List<String> connectionStrings();
+
+    /**
+     * Policy selecting replica for a read-only query.
+     *
+     * @return the routing policy
+     */
+    @Option.Configured
+    @Option.Default("ROUND_ROBIN")
+    @Option.AllowedValue(value = "ROUND_ROBIN", description = "Replicas are used in turns.")
+    @Option.AllowedValue(value = "LEAST_LOADED", description = "Replica with the least connections in use is used.")
+    String routing();
+
+    /**
+     * Connection pool of each replica.
+     *
+     * @return the replica pool
+     */
+    @Option.Configured
+    Optional<PoolConfig> pool();
+
+}
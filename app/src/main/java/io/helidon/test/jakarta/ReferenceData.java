@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+/**
+ * Reference entities of a persistence unit held in the second-level cache.
+ * Available from {@link jakarta.persistence.EntityManagerFactory} created by {@link PersistenceUtils}
+ * when {@link PersistenceConfig#referenceEntities()} are configured:
+ * <pre>{@code
+ * Map<String, Integer> loaded = emf.unwrap(ReferenceData.class).refresh();
+ * }</pre>
+ * Instances are loaded when the factory is created. Rows written outside of the factory,
+ * for example by a bulk load or a database restore, become visible after {@link #refresh()}.
+ */
+public final class ReferenceData {
+
+    private static final System.Logger LOGGER = System.getLogger(ReferenceData.class.getName());
+
+    private final String persistenceUnitName;
+    private final List<String> entities;
+    private volatile ServerSession session;
+    private volatile List<ClassDescriptor> descriptors;
+    private volatile boolean closed;
+
+    ReferenceData(String persistenceUnitName, List<String> entities) {
+        this.persistenceUnitName = persistenceUnitName;
+        this.entities = List.copyOf(entities);
+        this.session = null;
+        this.descriptors = List.of();
+        this.closed = false;
+    }
+
+    /**
+     * Reference entity class names.
+     *
+     * @return the entity class names
+     */
+    public List<String> entities() {
+        return entities;
+    }
+
+    /**
+     * Replace cached instances of all reference entities with the current database content.
+     * Reads running concurrently with the refresh may be resolved from the database.
+     *
+     * @return number of loaded instances of each reference entity
+     * @throws IllegalStateException when the factory is closed
+     */
+    public synchronized Map<String, Integer> refresh() {
+        if (closed) {
+            throw new IllegalStateException(
+                    String.format("EntityManagerFactory of %s is closed", persistenceUnitName));
+        }
+        ServerSession server = session;
+        Map<String, Integer> loaded = new LinkedHashMap<>();
+        if (server == null) {
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       () -> String.format("Reference data of %s are not supported by the persistence provider",
+                                           persistenceUnitName));
+            return loaded;
+        }
+        // Descriptor classes are replaced by the final ones during deployment, so they are resolved here
+        for (ClassDescriptor descriptor : descriptors) {
+            Class<?> cls = descriptor.getJavaClass();
+            server.getIdentityMapAccessor().initializeIdentityMap(cls);
+            loaded.put(descriptor.getJavaClassName(), server.readAllObjects(cls).size());
+        }
+        LOGGER.log(System.Logger.Level.DEBUG,
+                   () -> String.format("Loaded reference data %s of %s", loaded, persistenceUnitName));
+        return loaded;
+    }
+
+    void session(ServerSession session, List<ClassDescriptor> descriptors) {
+        this.descriptors = List.copyOf(descriptors);
+        this.session = session;
+    }
+
+    void close() {
+        closed = true;
+        session = null;
+        descriptors = List.of();
+    }
+
+}
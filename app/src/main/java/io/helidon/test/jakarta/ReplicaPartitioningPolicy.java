@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * EclipseLink session partitioning policy routing read-only queries to read replicas.
+ * Returning {@code null} leaves the query on the default (primary) connection.
+ * Queries of a unit of work or of a session in a database transaction stay on the primary.
+ * Database transaction starts lazily, so {@link PersistenceUtils} also makes JPA transactions begin it early.
+ * Cursor queries stay on the primary too, EclipseLink returns the connection of a closed cursor
+ * to the default read pool.
+ */
+final class ReplicaPartitioningPolicy extends PartitioningPolicy {
+
+    static final String ROUND_ROBIN = "ROUND_ROBIN";
+    static final String LEAST_LOADED = "LEAST_LOADED";
+
+    private final List<InstrumentedConnectionPool> replicas;
+    private final boolean leastLoaded;
+    private final AtomicInteger next;
+
+    ReplicaPartitioningPolicy(List<InstrumentedConnectionPool> replicas, String routing) {
+        this.replicas = List.copyOf(replicas);
+        this.leastLoaded = switch (routing) {
+            case ROUND_ROBIN -> false;
+            case LEAST_LOADED -> true;
+            default -> throw new PersistenceConfigException(
+                    String.format("Unsupported read replicas routing %s", routing));
+        };
+        this.next = new AtomicInteger(0);
+        setName("read-replicas");
+    }
+
+    @Override
+    public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
+        if (inTransaction(session, query) || inUnitOfWork(query) || !readOnly(query) || cursor(query)) {
+            return null;
+        }
+        List<Accessor> accessors = new ArrayList<>(1);
+        accessors.add(getAccessor(select().getName(), session, query, false));
+        return accessors;
+    }
+
+    // Policy gets the server session, client session of the query holds the transaction
+    private static boolean inTransaction(AbstractSession session, DatabaseQuery query) {
+        return session.isInTransaction() || (query.getSession() != null && query.getSession().isInTransaction());
+    }
+
+    private static boolean inUnitOfWork(DatabaseQuery query) {
+        return query.getSession() != null && query.getSession().isUnitOfWork();
+    }
+
+    private static boolean readOnly(DatabaseQuery query) {
+        return query.isObjectLevelReadQuery() && ((ObjectLevelReadQuery) query).isReadOnly();
+    }
+
+    private static boolean cursor(DatabaseQuery query) {
+        return query.isReadAllQuery() && ((ReadAllQuery) query).getContainerPolicy().isCursorPolicy();
+    }
+
+    private InstrumentedConnectionPool select() {
+        if (leastLoaded) {
+            InstrumentedConnectionPool selected = replicas.get(0);
+            for (InstrumentedConnectionPool replica : replicas) {
+                if (replica.statistics().inUse() < selected.statistics().inUse()) {
+                    selected = replica;
+                }
+            }
+            return selected;
+        }
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+}
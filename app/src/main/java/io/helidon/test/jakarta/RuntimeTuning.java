@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+/**
+ * Changes runtime tunables of a running persistence unit without rebuilding
+ * its {@link jakarta.persistence.EntityManagerFactory}.
+ * Available from {@link jakarta.persistence.EntityManagerFactory} created by {@link PersistenceUtils}
+ * when EclipseLink is the persistence provider:
+ * <pre>{@code
+ * TuningResult result = emf.unwrap(RuntimeTuning.class).apply(newConfig);
+ * }</pre>
+ * Tunables applied live with EclipseLink:
+ * <ul>
+ *     <li>{@code min}, {@code max} and {@code wait-timeout} of the write, read and read replica connection pools</li>
+ *     <li>{@code expiry} of entity caches</li>
+ *     <li>{@code ttl} of query result caches</li>
+ *     <li>{@code query-timeout}</li>
+ *     <li>{@code batch-writing.size}, used by database connections opened after the change</li>
+ * </ul>
+ * Changes of all other options are reported in {@link TuningResult#restartRequired()}.
+ */
+public final class RuntimeTuning {
+
+    private static final System.Logger LOGGER = System.getLogger(RuntimeTuning.class.getName());
+
+    private PersistenceConfig config;
+    private volatile ServerSession session;
+    private volatile boolean closed;
+
+    RuntimeTuning(PersistenceConfig config) {
+        this.config = config;
+        this.session = null;
+        this.closed = false;
+    }
+
+    /**
+     * Last applied persistence unit configuration.
+     *
+     * @return the persistence unit configuration
+     */
+    public synchronized PersistenceConfig config() {
+        return config;
+    }
+
+    /**
+     * Apply runtime tunables of the new configuration. Changes of other options are only reported
+     * and the new configuration becomes the base of the next comparison.
+     *
+     * @param next new persistence unit configuration
+     * @return options applied and options which require a restart
+     * @throws IllegalStateException when the factory is closed
+     */
+    public synchronized TuningResult apply(PersistenceConfig next) {
+        if (closed) {
+            throw new IllegalStateException(
+                    String.format("EntityManagerFactory of %s is closed", config.persistenceUnitName()));
+        }
+        Changes changes = new Changes(session);
+        restartOptions(config, next, changes);
+        pools(config, next, changes);
+        entityCaches(config, next, changes);
+        queryCaches(config, next, changes);
+        changes.live("query-timeout", config.queryTimeout(), next.queryTimeout(), server -> server.setQueryTimeoutDefault(
+                next.queryTimeout().map(timeout -> (int) timeout.toMillis()).orElse(0)), true);
+        batchWriting(config, next, changes);
+        config = next;
+        TuningResult result = new TuningResult(changes.applied, changes.restartRequired);
+        if (!result.applied().isEmpty()) {
+            LOGGER.log(System.Logger.Level.INFO,
+                       () -> String.format("Applied %s to %s", result.applied(), next.persistenceUnitName()));
+        }
+        if (!result.complete()) {
+            LOGGER.log(System.Logger.Level.WARNING,
+                       () -> String.format("Changes of %s in %s take effect after the EntityManagerFactory is rebuilt",
+                                           result.restartRequired(), next.persistenceUnitName()));
+        }
+        return result;
+    }
+
+    void session(ServerSession session) {
+        this.session = session;
+    }
+
+    void close() {
+        closed = true;
+        session = null;
+    }
+
+    boolean closed() {
+        return closed;
+    }
+
+    private static void restartOptions(PersistenceConfig current, PersistenceConfig next, Changes changes) {
+        changes.restart("persistence-unit-name", current.persistenceUnitName(), next.persistenceUnitName());
+        changes.restart("provider-class-name", current.providerClassName(), next.providerClassName());
+        changes.restart("connection-string", current.connectionString(), next.connectionString());
+        changes.restart("username", current.username(), next.username());
+        if (!Arrays.equals(current.password(), next.password())) {
+            changes.restartRequired("password");
+        }
+        changes.restart("jdbc-driver-class-name", current.jdbcDriverClassName(), next.jdbcDriverClassName());
+        changes.restart("managed-classes", current.managedClasses(), next.managedClasses());
+        changes.restart("transaction-type", current.transactionType(), next.transactionType());
+        changes.restart("validation-mode", current.validationMode(), next.validationMode());
+        changes.restart("shared-cache-mode", current.sharedCacheMode(), next.sharedCacheMode());
+        changes.restart("reference-entities", current.referenceEntities(), next.referenceEntities());
+        changes.restart("batch-fetch", current.batchFetch(), next.batchFetch());
+        changes.restart("read-replicas.connection-strings",
+                        current.readReplicas().map(ReadReplicasConfig::connectionStrings),
+                        next.readReplicas().map(ReadReplicasConfig::connectionStrings));
+        changes.restart("read-replicas.routing",
+                        current.readReplicas().map(ReadReplicasConfig::routing),
+                        next.readReplicas().map(ReadReplicasConfig::routing));
+        changes.restart("statement-cache-size", current.statementCacheSize(), next.statementCacheSize());
+        changes.restart("properties", current.properties(), next.properties());
+    }
+
+    private static void pools(PersistenceConfig current, PersistenceConfig next, Changes changes) {
+        Optional<ConnectionPoolConfig> currentPool = current.connectionPool();
+        Optional<ConnectionPoolConfig> nextPool = next.connectionPool();
+        // Missing pool config has the default options, except that no statistics are collected
+        changes.restart("connection-pool.read-shared",
+                        currentPool.orElseGet(ConnectionPoolConfig::create).readShared(),
+                        nextPool.orElseGet(ConnectionPoolConfig::create).readShared());
+        changes.restart("connection-pool.query-retry-attempts",
+                        currentPool.flatMap(ConnectionPoolConfig::queryRetryAttempts),
+                        nextPool.flatMap(ConnectionPoolConfig::queryRetryAttempts));
+        changes.restart("connection-pool.reconnect-delay",
+                        currentPool.flatMap(ConnectionPoolConfig::reconnectDelay),
+                        nextPool.flatMap(ConnectionPoolConfig::reconnectDelay));
+        changes.restart("connection-pool.statistics",
+                        currentPool.map(ConnectionPoolConfig::statistics).orElse(false),
+                        nextPool.map(ConnectionPoolConfig::statistics).orElse(false));
+        pool("connection-pool.write",
+             currentPool.flatMap(ConnectionPoolConfig::write),
+             nextPool.flatMap(ConnectionPoolConfig::write),
+             server -> List.of(server.getDefaultConnectionPool()),
+             changes);
+        pool("connection-pool.read",
+             currentPool.flatMap(ConnectionPoolConfig::read),
+             nextPool.flatMap(ConnectionPoolConfig::read),
+             server -> server.getReadConnectionPool() != null ? List.of(server.getReadConnectionPool()) : List.of(),
+             changes);
+        pool("read-replicas.pool",
+             current.readReplicas().flatMap(ReadReplicasConfig::pool),
+             next.readReplicas().flatMap(ReadReplicasConfig::pool),
+             server -> server.getConnectionPools().values().stream()
+                     .filter(pool -> pool.getName().startsWith(EclipseLinkSessionCustomizer.REPLICA_POOL_PREFIX))
+                     .toList(),
+             changes);
+    }
+
+    // Initial size only matters when the pool is started, removed options have no previous value to go back to
+    private static void pool(String key,
+                             Optional<PoolConfig> current,
+                             Optional<PoolConfig> next,
+                             Function<ServerSession, List<ConnectionPool>> pools,
+                             Changes changes) {
+        PoolConfig currentPool = current.orElseGet(PoolConfig::create);
+        PoolConfig nextPool = next.orElseGet(PoolConfig::create);
+        changes.restart(key + ".initial", currentPool.initial(), nextPool.initial());
+        changes.live(key + ".min", currentPool.min(), nextPool.min(), server -> pools.apply(server)
+                .forEach(pool -> pool.setMinNumberOfConnections(nextPool.min().orElseThrow())), false);
+        changes.live(key + ".max", currentPool.max(), nextPool.max(), server -> pools.apply(server)
+                .forEach(pool -> pool.setMaxNumberOfConnections(nextPool.max().orElseThrow())), false);
+        changes.live(key + ".wait-timeout", currentPool.waitTimeout(), nextPool.waitTimeout(), server -> pools.apply(server)
+                .forEach(pool -> pool.setWaitTimeout((int) nextPool.waitTimeout().orElseThrow().toMillis())), false);
+    }
+
+    private static void entityCaches(PersistenceConfig current, PersistenceConfig next, Changes changes) {
+        Map<String, EntityCacheConfig> currentCaches = current.entityCaches().stream()
+                .collect(Collectors.toMap(EntityCacheConfig::entityClass, Function.identity()));
+        Map<String, EntityCacheConfig> nextCaches = next.entityCaches().stream()
+                .collect(Collectors.toMap(EntityCacheConfig::entityClass, Function.identity()));
+        if (!currentCaches.keySet().equals(nextCaches.keySet())) {
+            changes.restartRequired("entity-caches");
+            return;
+        }
+        for (EntityCacheConfig nextCache : next.entityCaches()) {
+            EntityCacheConfig currentCache = currentCaches.get(nextCache.entityClass());
+            String key = "entity-caches[" + nextCache.entityClass() + "]";
+            changes.restart(key + ".type", currentCache.type(), nextCache.type());
+            changes.restart(key + ".size", currentCache.size(), nextCache.size());
+            changes.restart(key + ".isolation", currentCache.isolation(), nextCache.isolation());
+            changes.live(key + ".expiry", currentCache.expiry(), nextCache.expiry(), server -> {
+                for (ClassDescriptor descriptor : server.getDescriptors().values()) {
+                    if (descriptor.getJavaClassName().equals(nextCache.entityClass())) {
+                        descriptor.setCacheInvalidationPolicy(
+                                EclipseLinkSessionCustomizer.invalidationPolicy(nextCache.expiry()));
+                    }
+                }
+            }, true);
+        }
+    }
+
+    private static void queryCaches(PersistenceConfig current, PersistenceConfig next, Changes changes) {
+        Map<String, QueryCacheConfig> currentCaches = current.queryCaches().stream()
+                .collect(Collectors.toMap(QueryCacheConfig::query, Function.identity()));
+        Map<String, QueryCacheConfig> nextCaches = next.queryCaches().stream()
+                .collect(Collectors.toMap(QueryCacheConfig::query, Function.identity()));
+        if (!currentCaches.keySet().equals(nextCaches.keySet())) {
+            changes.restartRequired("query-caches");
+            return;
+        }
+        for (QueryCacheConfig nextCache : next.queryCaches()) {
+            QueryCacheConfig currentCache = currentCaches.get(nextCache.query());
+            String key = "query-caches[" + nextCache.query() + "]";
+            // Results cache of the query is created with its size when the query is first executed
+            changes.restart(key + ".size", currentCache.size(), nextCache.size());
+            changes.live(key + ".ttl", currentCache.ttl(), nextCache.ttl(), server -> {
+                DatabaseQuery query = server.getQuery(nextCache.query());
+                if (query instanceof ReadQuery readQuery && readQuery.getQueryResultsCachePolicy() != null) {
+                    readQuery.getQueryResultsCachePolicy().setCacheInvalidationPolicy(
+                            EclipseLinkSessionCustomizer.invalidationPolicy(nextCache.ttl()));
+                }
+            }, true);
+        }
+    }
+
+    private static void batchWriting(PersistenceConfig current, PersistenceConfig next, Changes changes) {
+        Optional<String> currentMode = current.batchWriting().map(BatchWritingConfig::mode);
+        Optional<String> nextMode = next.batchWriting().map(BatchWritingConfig::mode);
+        if (!currentMode.equals(nextMode)) {
+            changes.restartRequired("batch-writing");
+            return;
+        }
+        Optional<Integer> nextSize = next.batchWriting().map(BatchWritingConfig::size);
+        changes.live("batch-writing.size", current.batchWriting().map(BatchWritingConfig::size), nextSize,
+                     server -> server.getLogin().setMaxBatchWritingSize(nextSize.orElseThrow()),
+                     false);
+    }
+
+    // Collects changed options, live options require deployed EclipseLink session
+    private static final class Changes {
+
+        private final ServerSession server;
+        private final List<String> applied;
+        private final List<String> restartRequired;
+
+        private Changes(ServerSession server) {
+            this.server = server;
+            this.applied = new ArrayList<>();
+            this.restartRequired = new ArrayList<>();
+        }
+
+        private void restartRequired(String key) {
+            restartRequired.add(key);
+        }
+
+        private void restart(String key, Object current, Object next) {
+            if (!Objects.equals(current, next)) {
+                restartRequired.add(key);
+            }
+        }
+
+        // Options which can be removed at runtime fall back to the provider default in the setter
+        private <T> void live(String key,
+                              Optional<T> current,
+                              Optional<T> next,
+                              Consumer<ServerSession> setter,
+                              boolean removable) {
+            if (current.equals(next)) {
+                return;
+            }
+            if (server == null || (next.isEmpty() && !removable)) {
+                restartRequired.add(key);
+                return;
+            }
+            setter.accept(server);
+            applied.add(key);
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.jakarta;
+
+import java.util.List;
+
+/**
+ * Result of {@link RuntimeTuning#apply(PersistenceConfig)}.
+ * Options are identified by their config keys, such as {@code connection-pool.write.max}.
+ *
+ * @param applied options changed in the running persistence unit
+ * @param restartRequired changed options which take effect only in a new
+ *                        {@link jakarta.persistence.EntityManagerFactory}
+ */
+public record TuningResult(List<String> applied, List<String> restartRequired) {
+
+    /**
+     * Creates an instance of the result.
+     *
+     * @param applied options changed in the running persistence unit
+     * @param restartRequired changed options which take effect only in a new factory
+     */
+    public TuningResult {
+        applied = List.copyOf(applied);
+        restartRequired = List.copyOf(restartRequired);
+    }
+
+    /**
+     * Whether the new configuration was fully applied.
+     *
+     * @return value of {@code true} when no changed option requires a restart
+     */
+    public boolean complete() {
+        return restartRequired.isEmpty();
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Row of the ID sequence table.
+ * Value is the highest ID allocated so far to any node for the entity with the sequence name.
+ */
+@Entity
+@Table(name = "ID_SEQUENCE")
+public class IdSequence {
+
+    @Id
+    @Column(name = "SEQ_NAME", length = 64)
+    private String name;
+
+    @Column(name = "SEQ_VALUE", nullable = false)
+    private long value;
+
+    public IdSequence() {
+        this(null, 0);
+    }
+
+    public IdSequence(String name, long value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.getClass().getSimpleName());
+        sb.append(" {name=");
+        sb.append(name);
+        sb.append(", value=");
+        sb.append(value);
+        sb.append("}");
+        return sb.toString();
+    }
+
+}
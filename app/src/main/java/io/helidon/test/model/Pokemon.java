@@ -21,18 +21,59 @@ import java.util.Iterator;
 import java.util.Objects;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "POKEMNON")
+// Indexes include ID, so Pokemon.aliveSummaries and Pokemon.roster read rows in their ORDER BY p.id without sorting
+@Table(name = "POKEMNON",
+       indexes = {
+               @Index(name = "POKEMNON_ALIVE_IDX", columnList = "ALIVE, ID"),
+               @Index(name = "POKEMNON_TRAINER_IDX", columnList = "TRAINER_ID, ID")
+       })
 @NamedQuery(name="Pokemon.alive", query="SELECT p FROM Pokemon p WHERE p.alive = :alive")
+// Projections select only the columns of the view and do not create managed entities
+@NamedQuery(name = "Pokemon.aliveSummaries",
+            query = "SELECT NEW io.helidon.test.model.PokemonSummary(p.id, p.name, p.hp, t.name)"
+                    + " FROM Pokemon p LEFT JOIN p.trainer t WHERE p.alive = :alive ORDER BY p.id")
+@NamedQuery(name = "Pokemon.roster",
+            query = "SELECT NEW io.helidon.test.model.RosterEntry(p.id, p.name, p.hp, p.alive, p.typeSet)"
+                    + " FROM Pokemon p WHERE p.trainer.id = :trainer ORDER BY p.id")
+// List view: pokemon with its types and trainer, trainer always loads its team
+@NamedEntityGraph(name = "Pokemon.list",
+                  attributeNodes = {
+                          @NamedAttributeNode(value = "trainer", subgraph = "trainer"),
+                          @NamedAttributeNode("types")
+                  },
+                  subgraphs = @NamedSubgraph(name = "trainer", attributeNodes = @NamedAttributeNode("team")))
+// Detail view: list view with the other pokemons of the trainer
+@NamedEntityGraph(name = "Pokemon.detail",
+                  attributeNodes = {
+                          @NamedAttributeNode(value = "trainer", subgraph = "trainer"),
+                          @NamedAttributeNode("types")
+                  },
+                  subgraphs = {
+                          @NamedSubgraph(name = "trainer",
+                                         attributeNodes = {
+                                                 @NamedAttributeNode("team"),
+                                                 @NamedAttributeNode(value = "pokemons", subgraph = "pokemons")
+                                         }),
+                          @NamedSubgraph(name = "pokemons", attributeNodes = @NamedAttributeNode("types"))
+                  })
 public class Pokemon extends Creature {
 
     private int hp;
@@ -45,6 +86,10 @@ public class Pokemon extends Creature {
 
     @ManyToMany(targetEntity = Type.class, fetch = FetchType.EAGER)
     @JoinTable(name = "POKEMNON_TYPE",
+               indexes = {
+                       @Index(name = "POKEMNON_TYPE_POKEMNON_IDX", columnList = "POKEMNON_ID, TYPE_ID"),
+                       @Index(name = "POKEMNON_TYPE_TYPE_IDX", columnList = "TYPE_ID, POKEMNON_ID")
+               },
                joinColumns = @JoinColumn(
                        name = "POKEMNON_ID",
                        referencedColumnName = "ID"
@@ -55,6 +100,15 @@ public class Pokemon extends Creature {
                ))
     public Collection<Type> types;
 
+    // Copy of types, kept in sync with the POKEMNON_TYPE join table
+    @Convert(converter = TypeSetConverter.class)
+    @Column(name = "TYPE_MASK", nullable = false)
+    private TypeSet typeSet;
+
+    // Optimistic lock, concurrent updates of the same pokemon fail instead of overwriting each other
+    @Version
+    private long version;
+
     public Pokemon() {
         this(-1, null, null, -1, false, Collections.emptyList());
     }
@@ -79,6 +133,7 @@ public class Pokemon extends Creature {
         this.hp = hp;
         this.alive = alive;
         this.types = types;
+        this.typeSet = TypeSet.of(types);
     }
 
     public int getHp() {
@@ -103,6 +158,22 @@ public class Pokemon extends Creature {
 
     public void setTypes(Collection<Type> types) {
         this.types = types;
+        this.typeSet = TypeSet.of(types);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public TypeSet getTypeSet() {
+        return typeSet;
+    }
+
+    // Types field is public and may be modified directly
+    @PrePersist
+    @PreUpdate
+    void syncTypeSet() {
+        typeSet = TypeSet.of(types);
     }
 
     public Trainer getTrainer() {
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+/**
+ * Read-only view of a {@link Pokemon} in the roster of its {@link Trainer}.
+ * Selected by {@code Pokemon.roster} named query.
+ *
+ * @param id pokemon ID
+ * @param name pokemon name
+ * @param hp pokemon hit points
+ * @param alive whether the pokemon is alive
+ * @param types pokemon types
+ */
+public record RosterEntry(int id, String name, int hp, boolean alive, TypeSet types) {
+}
@@ -21,11 +21,26 @@ import java.util.Objects;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedQuery;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "TRAINER")
+@NamedQuery(name = "Trainer.summaries",
+            query = "SELECT NEW io.helidon.test.model.TrainerSummary(t.id, t.name, tm.name, COUNT(p))"
+                    + " FROM Trainer t LEFT JOIN t.team tm LEFT JOIN t.pokemons p"
+                    + " GROUP BY t.id, t.name, tm.name ORDER BY t.id")
+// Trainer roster: trainer with its team and all its pokemons with their types
+@NamedEntityGraph(name = "Trainer.roster",
+                  attributeNodes = {
+                          @NamedAttributeNode("team"),
+                          @NamedAttributeNode(value = "pokemons", subgraph = "pokemons")
+                  },
+                  subgraphs = @NamedSubgraph(name = "pokemons", attributeNodes = @NamedAttributeNode("types")))
 public class Trainer {
 
     @Id
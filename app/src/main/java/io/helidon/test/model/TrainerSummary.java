@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+/**
+ * Read-only view of a {@link Trainer} with its pokemon count.
+ * Selected by {@code Trainer.summaries} named query.
+ *
+ * @param id trainer ID
+ * @param name trainer name
+ * @param teamName name of the trainer team
+ * @param pokemons number of the trainer pokemons, boxed to match the query aggregate result type
+ */
+public record TrainerSummary(int id, String name, String teamName, Long pokemons) {
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of {@link Type} IDs stored as a bitmask.
+ * Type with ID {@code n} is represented by bit {@code 1 << (n - 1)}.
+ */
+public final class TypeSet {
+
+    /**
+     * Highest type ID which fits into the mask. Sign bit is not used, so masks are never negative.
+     */
+    public static final int MAX_TYPE_ID = 31;
+
+    /**
+     * Set without any type.
+     */
+    public static final TypeSet EMPTY = new TypeSet(0);
+
+    private final int mask;
+
+    private TypeSet(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Set of provided types.
+     *
+     * @param types the types
+     * @return new type set
+     */
+    public static TypeSet of(Collection<Type> types) {
+        int mask = 0;
+        if (types != null) {
+            for (Type type : types) {
+                mask |= bit(type.getId());
+            }
+        }
+        return ofMask(mask);
+    }
+
+    /**
+     * Set of provided type IDs.
+     *
+     * @param ids the type IDs
+     * @return new type set
+     */
+    public static TypeSet ofIds(int... ids) {
+        int mask = 0;
+        for (int id : ids) {
+            mask |= bit(id);
+        }
+        return ofMask(mask);
+    }
+
+    /**
+     * Set represented by provided mask.
+     *
+     * @param mask the bitmask
+     * @return new type set
+     */
+    public static TypeSet ofMask(int mask) {
+        if (mask < 0) {
+            throw new IllegalArgumentException(String.format("Type mask %08x must not be negative", mask));
+        }
+        return mask == 0 ? EMPTY : new TypeSet(mask);
+    }
+
+    /**
+     * Bit of the type with provided ID.
+     *
+     * @param id the type ID
+     * @return the bit
+     */
+    public static int bit(int id) {
+        if (id < 1 || id > MAX_TYPE_ID) {
+            throw new IllegalArgumentException(
+                    String.format("Type ID %d is out of the bitmask range 1 - %d", id, MAX_TYPE_ID));
+        }
+        return 1 << (id - 1);
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    public boolean contains(int id) {
+        return (mask & bit(id)) != 0;
+    }
+
+    public boolean contains(Type type) {
+        return contains(type.getId());
+    }
+
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    /**
+     * Type IDs in ascending order.
+     *
+     * @return the type IDs
+     */
+    public int[] ids() {
+        int[] ids = new int[size()];
+        int remaining = mask;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = Integer.numberOfTrailingZeros(remaining) + 1;
+            remaining &= remaining - 1;
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+        return mask == ((TypeSet) obj).mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(this.getClass().getSimpleName());
+        sb.append(" {ids=[");
+        boolean first = true;
+        for (int id : ids()) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(", ");
+            }
+            sb.append(id);
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link TypeSet} as an integer bitmask column.
+ */
+@Converter
+public class TypeSetConverter implements AttributeConverter<TypeSet, Integer> {
+
+    public TypeSetConverter() {
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(TypeSet typeSet) {
+        return typeSet == null ? 0 : typeSet.mask();
+    }
+
+    // Rows written before the column was added have no mask
+    @Override
+    public TypeSet convertToEntityAttribute(Integer mask) {
+        return mask == null ? TypeSet.EMPTY : TypeSet.ofMask(mask);
+    }
+
+}
@@ -2,6 +2,9 @@ module io.helidon.test {
 
     requires jakarta.persistence;
     requires io.helidon.common.config;
+    requires io.helidon.config;
     requires io.helidon.builder.api;
+    requires jdk.jfr;
+    requires static org.eclipse.persistence.core;
 
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.eclipse.persistence.platform.database.H2Platform;
+
+/**
+ * H2 platform printing boolean literals as {@code TRUE} and {@code FALSE}.
+ * Default platform prints them as {@code 1} and {@code 0}, which H2 2 does not compare with boolean columns.
+ * Only needed when parameters are not bound.
+ */
+public class H2BooleanPlatform extends H2Platform {
+
+    public H2BooleanPlatform() {
+    }
+
+    @Override
+    protected void appendBoolean(Boolean bool, Writer writer) throws IOException {
+        writer.write(bool ? "TRUE" : "FALSE");
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.jakarta.PersistenceConfig;
+
+/**
+ * Persistence units of tests backed by in-process H2 databases.
+ * Each unit name gets its own in-memory database, which is kept until the JVM exits.
+ */
+final class H2Units {
+
+    private H2Units() {
+        throw new UnsupportedOperationException("No instances of H2Units are allowed");
+    }
+
+    /**
+     * JDBC URL of the in-memory database.
+     *
+     * @param name database name
+     * @return the JDBC URL
+     */
+    static String connectionString(String name) {
+        return "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1";
+    }
+
+    /**
+     * Builder of the persistence unit read from a test resource with the unit name and database replaced.
+     *
+     * @param name persistence unit and database name
+     * @param resource YAML test resource with the persistence unit configuration
+     * @return new builder
+     */
+    static PersistenceConfig.Builder builder(String name, String resource) {
+        return PersistenceConfig.builder()
+                .from(PersistenceConfig.create(Config.just(ConfigSources.classpath(resource))))
+                .persistenceUnitName(name)
+                .connectionString(connectionString(name));
+    }
+
+    /**
+     * Persistence unit read from a test resource with the unit name and database replaced.
+     *
+     * @param name persistence unit and database name
+     * @param resource YAML test resource with the persistence unit configuration
+     * @return the persistence unit configuration
+     */
+    static PersistenceConfig config(String name, String resource) {
+        return builder(name, resource).build();
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+
+/**
+ * EclipseLink session log counting and recording executed SELECT statements.
+ * Installed by {@link #PROPERTIES} of the persistence unit, all sessions share the counter.
+ */
+public class SqlCounter extends AbstractSessionLog {
+
+    /**
+     * Persistence unit properties installing the counter.
+     */
+    static final Map<String, String> PROPERTIES = Map.of(
+            "eclipselink.logging.logger", SqlCounter.class.getName(),
+            "eclipselink.logging.level.sql", "FINE",
+            "eclipselink.logging.parameters", "false");
+
+    private static final AtomicInteger SELECTS = new AtomicInteger();
+    private static final ConcurrentLinkedQueue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    public SqlCounter() {
+    }
+
+    static void reset() {
+        SELECTS.set(0);
+        STATEMENTS.clear();
+    }
+
+    static int selects() {
+        return SELECTS.get();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public void log(SessionLogEntry entry) {
+        if (SessionLog.SQL.equals(entry.getNameSpace())
+                && entry.getMessage() != null
+                && entry.getMessage().trim().toUpperCase(Locale.ROOT).startsWith("SELECT")) {
+            SELECTS.incrementAndGet();
+            STATEMENTS.add(entry.getMessage());
+        }
+    }
+
+}
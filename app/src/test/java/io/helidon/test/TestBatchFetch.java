@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.BatchFetchConfig;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Batch fetching of relationships and its benchmark over a generated dataset.
+ * Latency is only logged, the test verifies query counts.
+ */
+public class TestBatchFetch {
+
+    private static final System.Logger LOGGER = System.getLogger(TestBatchFetch.class.getName());
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(7)
+            .trainers(500)
+            .pokemons(5000)
+            .chunkSize(500)
+            .build();
+    private static final int WALKED_POKEMONS = 1000;
+    private static EntityManagerFactory BATCHED = null;
+    private static EntityManagerFactory PLAIN = null;
+
+    public TestBatchFetch() {
+    }
+
+    @Test
+    public void testTrainerPokemons() {
+        int plain = selects("Trainer.pokemons", PLAIN, TestBatchFetch::walkTrainers);
+        int batched = selects("Trainer.pokemons", BATCHED, TestBatchFetch::walkTrainers);
+        assertThat(plain, greaterThan(GENERATOR.count(Trainer.class)));
+        assertThat(batched, lessThan(plain / 10));
+    }
+
+    @Test
+    public void testPokemonTrainerTeam() {
+        int plain = selects("Pokemon.trainer.team", PLAIN, TestBatchFetch::walkPokemons);
+        int batched = selects("Pokemon.trainer.team", BATCHED, TestBatchFetch::walkPokemons);
+        assertThat(plain, greaterThan(WALKED_POKEMONS));
+        assertThat(batched, lessThan(plain / 10));
+    }
+
+    private static int selects(String name, EntityManagerFactory emf, Function<EntityManager, Integer> walk) {
+        try (EntityManager em = emf.createEntityManager()) {
+            // Warm up
+            walk.apply(em);
+        }
+        try (EntityManager em = emf.createEntityManager()) {
+            SqlCounter.reset();
+            long start = System.nanoTime();
+            int entities = walk.apply(em);
+            long time = System.nanoTime() - start;
+            int selects = SqlCounter.selects();
+            LOGGER.log(System.Logger.Level.INFO,
+                       String.format("%s %s: %d entities, %d queries in %d ms",
+                                     name, emf == BATCHED ? "batched" : "plain", entities, selects, time / 1_000_000));
+            return selects;
+        }
+    }
+
+    private static int walkTrainers(EntityManager em) {
+        List<Trainer> trainers = em.createQuery("SELECT t FROM Trainer t", Trainer.class).getResultList();
+        int pokemons = 0;
+        for (Trainer trainer : trainers) {
+            pokemons += trainer.getPokemons().size();
+        }
+        assertThat(pokemons, is(GENERATOR.count(Pokemon.class)));
+        return trainers.size();
+    }
+
+    private static int walkPokemons(EntityManager em) {
+        List<Pokemon> pokemons = em.createQuery("SELECT p FROM Pokemon p WHERE p.id <= :last", Pokemon.class)
+                .setParameter("last", WALKED_POKEMONS)
+                .getResultList();
+        for (Pokemon pokemon : pokemons) {
+            pokemon.getTrainer().getTeam().getName();
+        }
+        return pokemons.size();
+    }
+
+    @BeforeClass
+    public static void before() {
+        // Second-level cache would hide queries of related entities
+        PersistenceConfig.Builder builder = H2Units.builder("fetch-plain", "batching.yaml")
+                .sharedCacheMode("NONE");
+        SqlCounter.PROPERTIES.forEach(builder::putProperty);
+        PersistenceConfig plain = builder.build();
+        PersistenceConfig batched = PersistenceConfig.builder()
+                .from(plain)
+                .persistenceUnitName("fetch-batched")
+                .connectionString(H2Units.connectionString("fetch-batched"))
+                .batchFetch(BatchFetchConfig.builder()
+                                    .type("IN")
+                                    .size(256)
+                                    .addRelationship(Trainer.class.getName() + ".pokemons")
+                                    .addRelationship(Trainer.class.getName() + ".team")
+                                    .addRelationship(Pokemon.class.getName() + ".trainer")
+                                    .addRelationship(Pokemon.class.getName() + ".types")
+                                    .build())
+                .build();
+        PLAIN = PersistenceUtils.createEmf(plain);
+        BATCHED = PersistenceUtils.createEmf(batched);
+        for (EntityManagerFactory emf : List.of(PLAIN, BATCHED)) {
+            try (EntityManager em = emf.createEntityManager()) {
+                InitialData.init(em, GENERATOR);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        if (BATCHED != null) {
+            BATCHED.close();
+        }
+        if (PLAIN != null) {
+            PLAIN.close();
+        }
+    }
+
+}
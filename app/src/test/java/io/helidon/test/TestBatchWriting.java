@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.BatchWritingConfig;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static io.helidon.test.data.InitialData.TRAINERS;
+import static io.helidon.test.data.InitialData.TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Batched data loading benchmark.
+ * Throughput is only logged, the test verifies that all rows were written with each batch size.
+ */
+public class TestBatchWriting {
+
+    private static final System.Logger LOGGER = System.getLogger(TestBatchWriting.class.getName());
+    private static final int POKEMONS_COUNT = 5000;
+    private static final int FIRST_ID = 1000;
+
+    public TestBatchWriting() {
+    }
+
+    @Test
+    public void testInitWithBatchWriting() {
+        try (EntityManagerFactory emf = createEmf("init", 100)) {
+            emf.runInTransaction(em -> InitialData.init(em, 100));
+            emf.runInTransaction(em -> assertThat(
+                    em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult(),
+                    is((long) POKEMONS.length - 1)));
+        }
+    }
+
+    @Test
+    public void testInsertsPerSecond() {
+        for (int batchSize : List.of(1, 10, 100, 1000)) {
+            try (EntityManagerFactory emf = createEmf("bench" + batchSize, batchSize)) {
+                emf.runInTransaction(em -> InitialData.init(em, batchSize));
+                long start = System.nanoTime();
+                int count = emf.callInTransaction(em -> InitialData.persist(em, pokemons(), batchSize));
+                long time = System.nanoTime() - start;
+                LOGGER.log(System.Logger.Level.INFO,
+                           String.format("Batch size %4d: %d pokemons in %d ms, %.0f inserts/s",
+                                         batchSize, count, time / 1_000_000, count * 1e9 / time));
+                emf.runInTransaction(em -> assertThat(
+                        em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult(),
+                        is((long) POKEMONS.length - 1 + POKEMONS_COUNT)));
+            }
+        }
+    }
+
+    // Each EMF gets its own in-memory database
+    private static EntityManagerFactory createEmf(String name, int batchSize) {
+        PersistenceConfig config = H2Units.builder(name, "batching.yaml")
+                .batchWriting(BatchWritingConfig.builder()
+                                      .mode(batchSize > 1 ? "JDBC" : "NONE")
+                                      .size(batchSize)
+                                      .build())
+                .build();
+        return PersistenceUtils.createEmf(config);
+    }
+
+    private static Iterator<Pokemon> pokemons() {
+        return IntStream.range(FIRST_ID, FIRST_ID + POKEMONS_COUNT)
+                .mapToObj(id -> new Pokemon(id, TRAINERS[id % (TRAINERS.length - 1) + 1], "Pokemon " + id,
+                                            id % 300 + 1, true, List.of(TYPES[id % (TYPES.length - 1) + 1])))
+                .iterator();
+    }
+
+}
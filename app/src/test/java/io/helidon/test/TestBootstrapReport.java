@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import io.helidon.test.jakarta.BootstrapReport;
+import io.helidon.test.jakarta.PersistenceUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class TestBootstrapReport {
+
+    public TestBootstrapReport() {
+    }
+
+    @Test
+    public void testPhases() {
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(H2Units.config("bootstrap", "batching.yaml"))) {
+            BootstrapReport report = emf.unwrap(BootstrapReport.class);
+            assertThat(report.persistenceUnitName(), is("bootstrap"));
+            // Connection and schema generation happen in createEmf, not on the first EntityManager
+            assertThat(report.phases().stream().map(BootstrapReport.Phase::name).toList(),
+                       contains(BootstrapReport.CLASS_LOADING,
+                                BootstrapReport.CONFIGURATION,
+                                BootstrapReport.METADATA,
+                                BootstrapReport.CONNECTION,
+                                BootstrapReport.SCHEMA_GENERATION));
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import io.helidon.test.data.BulkDelete;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.NEW_POKEMONS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TestBulkDelete {
+
+    public TestBulkDelete() {
+    }
+
+    @Test
+    public void testDeleteTemp() {
+        try (EntityManagerFactory emf = createEmf("bulk-delete")) {
+            emf.runInTransaction(InitialData::init);
+            emf.runInTransaction(em -> NEW_POKEMONS.values().forEach(em::merge));
+            try (EntityManager em = emf.createEntityManager()) {
+                // Load temporary pokemons into the second-level cache
+                NEW_POKEMONS.keySet().forEach(id -> assertThat(em.find(Pokemon.class, id), notNullValue()));
+                em.clear();
+                assertThat(BulkDelete.pokemons(em, NEW_POKEMONS.keySet(), 3), is(NEW_POKEMONS.size()));
+                NEW_POKEMONS.keySet().forEach(id -> assertThat(em.find(Pokemon.class, id), nullValue()));
+                Number links = (Number) em.createNativeQuery("SELECT COUNT(*) FROM POKEMNON_TYPE WHERE POKEMNON_ID >= 100")
+                        .getSingleResult();
+                assertThat(links.intValue(), is(0));
+                assertThat(InitialData.verify(em), is(true));
+                // Nothing left to delete
+                assertThat(InitialData.deleteTemp(em), is(0));
+            }
+        }
+    }
+
+    private static EntityManagerFactory createEmf(String name) {
+        return PersistenceUtils.createEmf(H2Units.config(name, "batching.yaml"));
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+
+import io.helidon.test.data.BulkUpdate;
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.TypeFilter;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.TypeSet;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Bulk updates and their benchmark against the per-entity path over a generated dataset.
+ * Dataset has {@code 10000} pokemons, larger one is set by {@code bulk.pokemons} system property,
+ * e.g. {@code -Dbulk.pokemons=1000000}. Latency is only logged, the test verifies updated state.
+ */
+public class TestBulkUpdate {
+
+    private static final System.Logger LOGGER = System.getLogger(TestBulkUpdate.class.getName());
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(5)
+            .pokemons(Integer.getInteger("bulk.pokemons", 10000))
+            .chunkSize(1000)
+            .build();
+    // Normal and Water are the most frequent generated types
+    private static final TypeSet TYPES = TypeSet.ofIds(1, 11);
+    private static EntityManagerFactory EMF = null;
+    private static BulkUpdate BULK_UPDATE = null;
+    private static TypeFilter TYPE_FILTER = null;
+
+    public TestBulkUpdate() {
+    }
+
+    @Test
+    public void testSetAlive() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            // Cached and managed state from before the update
+            Trainer trainer = em.find(Trainer.class, 1);
+            int roster = trainer.getPokemons().size();
+            Pokemon managed = trainer.getPokemons().getFirst();
+            long version = managed.getVersion();
+            assertThat(BULK_UPDATE.setAlive(em, 1, false), is(roster));
+            assertThat(em.contains(managed), is(false));
+            Pokemon updated = em.find(Pokemon.class, managed.getId());
+            assertThat(updated.isAlive(), is(false));
+            assertThat(updated.getVersion(), is(version + 1));
+            assertThat(em.find(Trainer.class, 1).getPokemons().stream().noneMatch(Pokemon::isAlive), is(true));
+            assertThat(BULK_UPDATE.setAlive(em, 1, true), is(roster));
+        }
+    }
+
+    @Test
+    public void testAddHp() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            long before = typesHp(em);
+            long count = TYPE_FILTER.anyOf(em, TYPES).getResultStream().count();
+            em.clear();
+            assertThat((long) BULK_UPDATE.addHp(em, TYPES, 10), is(count));
+            assertThat(typesHp(em), is(before + 10 * count));
+            assertThat((long) BULK_UPDATE.addHp(em, TYPES, -10), is(count));
+            assertThat(typesHp(em), is(before));
+        }
+    }
+
+    @Test
+    public void testBenchmark() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            long start = System.nanoTime();
+            em.getTransaction().begin();
+            List<Pokemon> pokemons = TYPE_FILTER.anyOf(em, TYPES).getResultList();
+            pokemons.forEach(pokemon -> pokemon.setHp(pokemon.getHp() + 1));
+            em.getTransaction().commit();
+            em.clear();
+            long entityTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            int updated = BULK_UPDATE.addHp(em, TYPES, -1);
+            long bulkTime = System.nanoTime() - start;
+            assertThat(updated, is(pokemons.size()));
+            LOGGER.log(System.Logger.Level.INFO,
+                       String.format("%d of %d pokemons updated: per entity %d ms, bulk %d ms",
+                                     updated, GENERATOR.count(Pokemon.class),
+                                     entityTime / 1_000_000, bulkTime / 1_000_000));
+        }
+    }
+
+    private static long typesHp(EntityManager em) {
+        return TYPE_FILTER.anyOf(em, TYPES)
+                .getResultStream()
+                .mapToLong(Pokemon::getHp)
+                .sum();
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig config = H2Units.config("bulk-update", "batching.yaml");
+        EMF = PersistenceUtils.createEmf(config);
+        try (EntityManager em = EMF.createEntityManager()) {
+            InitialData.init(em, GENERATOR);
+        }
+        BULK_UPDATE = BulkUpdate.create(EMF);
+        TYPE_FILTER = TypeFilter.create(EMF);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.ConnectionPoolMetrics;
+import io.helidon.test.jakarta.ConnectionPoolStatistics;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+public class TestConnectionPool {
+
+    private static final Config CONFIG = Config.just(ConfigSources.classpath("pool.yaml"));
+    private static EntityManagerFactory EMF = null;
+
+    public TestConnectionPool() {
+    }
+
+    @Test
+    public void testWritePoolStatistics() {
+        ConnectionPoolMetrics metrics = EMF.unwrap(ConnectionPoolMetrics.class);
+        // Data initialization in before() committed through the write pool
+        ConnectionPoolStatistics write = metrics.pool(ConnectionPoolMetrics.WRITE_POOL).orElseThrow();
+        assertThat(write.acquisitions(), greaterThan(0L));
+        assertThat(write.inUse(), is(0));
+    }
+
+    @Test
+    public void testReadPoolStatistics() {
+        ConnectionPoolStatistics read = EMF.unwrap(ConnectionPoolMetrics.class)
+                .pool(ConnectionPoolMetrics.READ_POOL)
+                .orElseThrow();
+        long acquisitions = read.acquisitions();
+        // Query outside of a transaction reads through the read pool
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.createNamedQuery("Pokemon.alive", Pokemon.class)
+                               .setParameter("alive", true)
+                               .getResultList()
+                               .size(),
+                       is(POKEMONS.length - 1));
+        }
+        assertThat(read.acquisitions(), greaterThan(acquisitions));
+        assertThat(read.inUse(), is(0));
+    }
+
+    @BeforeClass
+    public static void before() {
+        EMF = PersistenceUtils.createEmf(PersistenceConfig.create(CONFIG));
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
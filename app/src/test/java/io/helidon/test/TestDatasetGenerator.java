@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.ParallelLoader;
+import io.helidon.test.data.PartitionReport;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestDatasetGenerator {
+
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(42)
+            .pokemons(5000)
+            .chunkSize(500)
+            .build();
+    private static EntityManagerFactory EMF = null;
+
+    public TestDatasetGenerator() {
+    }
+
+    @Test
+    public void testCounts() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (Class<?> entity : DatasetGenerator.ENTITIES) {
+                long count = em.createQuery("SELECT COUNT(e) FROM " + entity.getSimpleName() + " e", Long.class)
+                        .getSingleResult();
+                assertThat(entity.getSimpleName(), count, is((long) GENERATOR.count(entity)));
+            }
+        }
+    }
+
+    @Test
+    public void testDeterministic() {
+        DatasetGenerator same = DatasetGenerator.builder()
+                .seed(42)
+                .pokemons(5000)
+                .build();
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (int id : new int[] {1, 2500, 5000}) {
+                Pokemon stored = em.find(Pokemon.class, id);
+                assertThat(same.create(Pokemon.class, id, em::find), is(stored));
+            }
+        }
+    }
+
+    @Test
+    public void testReusedBuilder() {
+        DatasetGenerator.Builder builder = DatasetGenerator.builder().pokemons(5000);
+        DatasetGenerator small = builder.build();
+        DatasetGenerator large = builder.pokemons(50_000).build();
+        // Derived counts follow the pokemons count of each build
+        assertThat(small.count(Trainer.class), is(250));
+        assertThat(small.count(Team.class), is(2));
+        assertThat(large.count(Trainer.class), is(2500));
+        assertThat(large.count(Team.class), is(25));
+        assertThat(large.count(League.class), is(large.count(Region.class)));
+    }
+
+    @Test
+    public void testParallelLoad() {
+        PersistenceConfig config = H2Units.config("generated-parallel", "batching.yaml");
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            List<PartitionReport> reports = ParallelLoader.builder(GENERATOR)
+                    .parallelism(4)
+                    .build()
+                    .load(emf);
+            // Pokemons are split into partitions of 1250 rows
+            assertThat(reports.stream().filter(report -> report.entity() == Pokemon.class).count(), is(4L));
+            assertThat(reports.stream().mapToLong(PartitionReport::rows).sum(), is(expectedRows()));
+            try (EntityManager em = emf.createEntityManager()) {
+                assertThat(em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult(),
+                           is((long) GENERATOR.count(Pokemon.class)));
+            }
+        }
+    }
+
+    private static long expectedRows() {
+        return DatasetGenerator.ENTITIES.stream()
+                .mapToLong(GENERATOR::count)
+                .sum();
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig config = H2Units.config("generated", "batching.yaml");
+        EMF = PersistenceUtils.createEmf(config);
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(InitialData.init(em, GENERATOR), is(expectedRows()));
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
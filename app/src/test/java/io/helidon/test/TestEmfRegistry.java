@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import io.helidon.test.jakarta.EmfRegistry;
+import io.helidon.test.jakarta.PersistenceConfig;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+
+public class TestEmfRegistry {
+
+    public TestEmfRegistry() {
+    }
+
+    @Test
+    public void testReferenceCounting() throws SQLException {
+        PersistenceConfig config = unit("registry-shared");
+        EmfRegistry registry = new EmfRegistry();
+        EntityManagerFactory first = registry.acquire(config);
+        EntityManagerFactory second = registry.acquire(config);
+        try {
+            assertThat(registry.size(), is(1));
+            assertThat(registry.references(config), is(2));
+            first.close();
+            assertThat(first.isOpen(), is(false));
+            assertThrows(IllegalStateException.class, first::createEntityManager);
+            assertThrows(IllegalStateException.class, first::getMetamodel);
+            // Shared factory stays open for the other reference
+            assertThat(second.isOpen(), is(true));
+            assertThat(registry.references(config), is(1));
+            second.runInTransaction(
+                    em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+        } finally {
+            first.close();
+            second.close();
+        }
+        assertThat(registry.size(), is(0));
+        // Shared factory was closed with its last reference
+        assertThat(sessions(config), is(1));
+    }
+
+    @Test
+    public void testEqualConfigs() {
+        EmfRegistry registry = new EmfRegistry();
+        // Separately created configs hold distinct password arrays
+        PersistenceConfig config = unit("registry-equal");
+        try (EntityManagerFactory first = registry.acquire(config);
+                EntityManagerFactory second = registry.acquire(unit("registry-equal"))) {
+            assertThat(registry.size(), is(1));
+            assertThat(registry.references(config), is(2));
+            assertThat(first.unwrap(Session.class), sameInstance(second.unwrap(Session.class)));
+        }
+        assertThat(registry.size(), is(0));
+    }
+
+    @Test
+    public void testEvict() throws SQLException {
+        PersistenceConfig config = unit("registry-evict");
+        EmfRegistry registry = new EmfRegistry();
+        EntityManagerFactory evicted = registry.acquire(config);
+        try {
+            assertThat(registry.evict(config), is(true));
+            assertThat(registry.evict(config), is(false));
+            assertThat(registry.size(), is(0));
+            // Reference handed out before eviction stays usable
+            assertThat(evicted.isOpen(), is(true));
+            try (EntityManagerFactory fresh = registry.acquire(config)) {
+                assertThat(registry.size(), is(1));
+                assertThat(registry.references(config), is(1));
+                evicted.close();
+                assertThat(fresh.isOpen(), is(true));
+                fresh.runInTransaction(
+                        em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+            }
+        } finally {
+            evicted.close();
+        }
+        assertThat(registry.size(), is(0));
+        assertThat(sessions(config), is(1));
+    }
+
+    @Test
+    public void testCloseAll() {
+        PersistenceConfig config = unit("registry-close-all");
+        EmfRegistry registry = new EmfRegistry();
+        EntityManagerFactory emf = registry.acquire(config);
+        try {
+            registry.closeAll();
+            assertThat(registry.size(), is(0));
+            assertThat(emf.isOpen(), is(false));
+        } finally {
+            emf.close();
+        }
+    }
+
+    private static PersistenceConfig unit(String name) {
+        return H2Units.config(name, "batching.yaml");
+    }
+
+    // Number of open sessions of the database including the one executing this query
+    private static int sessions(PersistenceConfig config) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.connectionString(), "test", "password");
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.EntityCacheMetrics;
+import io.helidon.test.jakarta.EntityCacheStatistics;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.sessions.Session;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.TRAINERS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class TestEntityCache {
+
+    private static final Config CONFIG = Config.just(ConfigSources.classpath("entity-cache.yaml"));
+    private static EntityManagerFactory EMF = null;
+
+    public TestEntityCache() {
+    }
+
+    @Test
+    public void testStatistics() {
+        // Second lookup from a new persistence context is served by the shared cache
+        for (int i = 0; i < 2; i++) {
+            try (EntityManager em = EMF.createEntityManager()) {
+                assertThat(em.find(Type.class, 1), notNullValue());
+            }
+        }
+        EntityCacheMetrics metrics = EMF.unwrap(EntityCacheMetrics.class);
+        EntityCacheStatistics types = metrics.cache(Type.class.getName()).orElseThrow();
+        assertThat(types.hits(), greaterThan(0L));
+        assertThat(metrics.cache(Trainer.class.getName()).isPresent(), is(true));
+    }
+
+    @Test
+    public void testIsolated() {
+        int id = TRAINERS[1].getId();
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(em.find(Trainer.class, id), notNullValue());
+        }
+        assertThat(EMF.getCache().contains(Trainer.class, id), is(false));
+    }
+
+    @Test
+    public void testSizeAndExpiry() {
+        ClassDescriptor descriptor = EMF.unwrap(Session.class).getDescriptor(Pokemon.class);
+        assertThat(descriptor.getIdentityMapSize(), is(1000));
+        assertThat(descriptor.getCacheInvalidationPolicy(), instanceOf(TimeToLiveCacheInvalidationPolicy.class));
+        assertThat(((TimeToLiveCacheInvalidationPolicy) descriptor.getCacheInvalidationPolicy()).getTimeToLive(),
+                   is(TimeUnit.MINUTES.toMillis(5)));
+    }
+
+    @BeforeClass
+    public static void before() {
+        EMF = PersistenceUtils.createEmf(PersistenceConfig.create(CONFIG));
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+
+import io.helidon.test.data.FetchPlan;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.TypedQuery;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static io.helidon.test.data.InitialData.TRAINERS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TestFetchPlan {
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestFetchPlan() {
+    }
+
+    @BeforeClass
+    public static void before() {
+        // Second-level cache would hide queries of related entities
+        PersistenceConfig.Builder builder = H2Units.builder("fetch-plan", "batching.yaml")
+                .sharedCacheMode("NONE");
+        SqlCounter.PROPERTIES.forEach(builder::putProperty);
+        EMF = PersistenceUtils.createEmf(builder.build());
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+    @Test
+    public void testPokemonList() {
+        // Pokemons, trainers, teams and types
+        assertThat(pokemonsSelects(null), greaterThan(POKEMONS.length));
+        assertThat(pokemonsSelects(FetchPlan.POKEMON_LIST), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void testTrainerRoster() {
+        // Trainers, teams, pokemons and types
+        assertThat(trainersSelects(null), greaterThan(TRAINERS.length));
+        assertThat(trainersSelects(FetchPlan.TRAINER_ROSTER), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void testPokemonDetail() {
+        // Pokemon, its types, trainer, team, other pokemons of the trainer and their types
+        assertThat(detailSelects(null, null), greaterThan(trainerPokemons()));
+        assertThat(detailSelects(FetchPlan.POKEMON_DETAIL, FetchPlan.Mode.LOAD), lessThanOrEqualTo(6));
+        assertThat(detailSelects(FetchPlan.POKEMON_DETAIL, FetchPlan.Mode.FETCH), lessThanOrEqualTo(6));
+        try (EntityManager em = EMF.createEntityManager()) {
+            PersistenceUnitUtil util = EMF.getPersistenceUnitUtil();
+            Pokemon pokemon = FetchPlan.POKEMON_DETAIL.find(em, 1, FetchPlan.Mode.LOAD);
+            assertThat(util.isLoaded(pokemon, "types"), is(true));
+            assertThat(util.isLoaded(pokemon.getTrainer(), "pokemons"), is(true));
+            em.clear();
+            pokemon = FetchPlan.POKEMON_DETAIL.find(em, 1, FetchPlan.Mode.FETCH);
+            assertThat(util.isLoaded(pokemon.getTrainer(), "pokemons"), is(true));
+        }
+    }
+
+    private static int pokemonsSelects(FetchPlan<Pokemon> plan) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            SqlCounter.reset();
+            TypedQuery<Pokemon> query = em.createQuery("SELECT p FROM Pokemon p", Pokemon.class);
+            List<Pokemon> pokemons = plan == null ? query.getResultList() : plan.fetch(em, query).getResultList();
+            for (Pokemon pokemon : pokemons) {
+                pokemon.getTypes().size();
+                pokemon.getTrainer().getTeam().getName();
+            }
+            assertThat(pokemons.size(), is(POKEMONS.length - 1));
+            return SqlCounter.selects();
+        }
+    }
+
+    private static int detailSelects(FetchPlan<Pokemon> plan, FetchPlan.Mode mode) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            SqlCounter.reset();
+            Pokemon pokemon = plan == null ? em.find(Pokemon.class, 1) : plan.find(em, 1, mode);
+            pokemon.getTypes().size();
+            pokemon.getTrainer().getTeam().getName();
+            pokemon.getTrainer().getPokemons().forEach(other -> other.getTypes().size());
+            return SqlCounter.selects();
+        }
+    }
+
+    private static int trainerPokemons() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createQuery("SELECT COUNT(o) FROM Pokemon p JOIN p.trainer t JOIN t.pokemons o WHERE p.id = 1",
+                                  Long.class)
+                    .getSingleResult()
+                    .intValue();
+        }
+    }
+
+    private static int trainersSelects(FetchPlan<Trainer> plan) {
+        try (EntityManager em = EMF.createEntityManager()) {
+            SqlCounter.reset();
+            TypedQuery<Trainer> query = em.createQuery("SELECT t FROM Trainer t", Trainer.class);
+            List<Trainer> trainers = plan == null ? query.getResultList() : plan.load(em, query).getResultList();
+            for (Trainer trainer : trainers) {
+                trainer.getTeam().getName();
+                trainer.getPokemons().forEach(pokemon -> pokemon.getTypes().size());
+            }
+            assertThat(trainers.size(), is(TRAINERS.length - 1));
+            return SqlCounter.selects();
+        }
+    }
+
+}
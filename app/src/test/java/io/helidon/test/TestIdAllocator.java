@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.helidon.test.data.IdAllocator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Pooled ID allocation and throughput benchmark of concurrent inserts with allocated IDs.
+ * Throughput is only logged, the test verifies that no ID is allocated twice.
+ */
+public class TestIdAllocator {
+
+    private static final System.Logger LOGGER = System.getLogger(TestIdAllocator.class.getName());
+    private static final int THREADS = 32;
+    private static final int INSERTS = 500;
+    // Matches batch-writing size in batching.yaml
+    private static final int TRANSACTION_SIZE = 100;
+    private static EntityManagerFactory EMF = null;
+
+    public TestIdAllocator() {
+    }
+
+    @Test
+    public void testStartsAfterStoredIds() {
+        IdAllocator allocator = IdAllocator.builder(EMF).build();
+        try (EntityManager em = EMF.createEntityManager()) {
+            int max = em.createQuery("SELECT MAX(t.id) FROM Trainer t", Integer.class).getSingleResult();
+            assertThat(allocator.next(Trainer.class), greaterThan(max));
+        }
+        assertThrows(IllegalArgumentException.class, () -> allocator.next(String.class));
+    }
+
+    @Test
+    public void testNodes() throws InterruptedException, ExecutionException {
+        // Allocators of two nodes sharing the database
+        List<IdAllocator> nodes = List.of(IdAllocator.builder(EMF).blockSize(10).build(),
+                                          IdAllocator.builder(EMF).blockSize(25).build());
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS; i++) {
+                IdAllocator allocator = nodes.get(i % nodes.size());
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < INSERTS; j++) {
+                        assertThat(ids.add(allocator.next(Team.class)), is(true));
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertThat(ids.size(), is(THREADS * INSERTS));
+    }
+
+    @Test
+    public void testConcurrentInserts() throws InterruptedException, ExecutionException {
+        IdAllocator allocator = IdAllocator.builder(EMF).build();
+        long before = pokemons();
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < INSERTS; j += TRANSACTION_SIZE) {
+                        int offset = j;
+                        EMF.runInTransaction(em -> {
+                            Trainer trainer = em.getReference(Trainer.class, 1 + thread % 3);
+                            Type type = em.getReference(Type.class, 1 + thread % 18);
+                            for (int k = 0; k < TRANSACTION_SIZE; k++) {
+                                Pokemon pokemon = allocator.assign(new Pokemon(0, trainer, "Ditto-" + thread + "-"
+                                        + (offset + k), 48, true, List.of(type)));
+                                ids.add(pokemon.getId());
+                                em.persist(pokemon);
+                            }
+                        });
+                    }
+                }));
+            }
+        }
+        long time = System.nanoTime() - start;
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        int inserts = THREADS * INSERTS;
+        LOGGER.log(System.Logger.Level.INFO,
+                   String.format("%d pokemons inserted by %d threads in %d ms, %.0f inserts/s, %d ID blocks",
+                                 inserts, THREADS, time / 1_000_000, inserts * 1e9 / time, allocator.blocks()));
+        assertThat(ids.size(), is(inserts));
+        assertThat(pokemons(), is(before + inserts));
+        assertThat(allocator.blocks(), is((long) (inserts + allocator.blockSize() - 1) / allocator.blockSize()));
+    }
+
+    private static long pokemons() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createQuery("SELECT COUNT(p) FROM Pokemon p", Long.class).getSingleResult();
+        }
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig config = H2Units.config("id-allocator", "batching.yaml");
+        EMF = PersistenceUtils.createEmf(config);
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestInitialData {
+
+    private static EntityManagerFactory EMF = null;
+
+    public TestInitialData() {
+    }
+
+    @Test
+    public void testVerify() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(InitialData.verify(em), is(true));
+            // Pages smaller than the tables
+            assertThat(InitialData.verify(em, 2), is(true));
+        }
+    }
+
+    @Test
+    public void testVerifyChangedRow() {
+        EMF.runInTransaction(em -> em.find(Pokemon.class, 1).setHp(1));
+        try (EntityManager em = EMF.createEntityManager()) {
+            assertThat(InitialData.verify(em, 2), is(false));
+        } finally {
+            EMF.runInTransaction(em -> em.find(Pokemon.class, 1).setHp(InitialData.POKEMONS[1].getHp()));
+        }
+    }
+
+    @BeforeClass
+    public static void before() {
+        EMF = PersistenceUtils.createEmf(H2Units.config("initial-data", "batching.yaml"));
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
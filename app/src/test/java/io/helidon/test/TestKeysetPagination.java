@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.KeysetPager;
+import io.helidon.test.data.Page;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Keyset pagination and its benchmark against offset paging over a generated dataset.
+ * Latency is only logged, the test verifies page content.
+ */
+public class TestKeysetPagination {
+
+    private static final System.Logger LOGGER = System.getLogger(TestKeysetPagination.class.getName());
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(3)
+            .pokemons(20000)
+            .chunkSize(1000)
+            .build();
+    private static final int PAGE_SIZE = 100;
+    private static final KeysetPager<Pokemon> PAGER = KeysetPager.builder(Pokemon.class)
+            .where("e.alive = :alive")
+            .parameter("alive", true)
+            .sortBy("hp", KeysetPager.Direction.DESC)
+            .pageSize(PAGE_SIZE)
+            .build();
+    private static EntityManagerFactory EMF = null;
+
+    public TestKeysetPagination() {
+    }
+
+    @Test
+    public void testWalk() {
+        List<Integer> expected;
+        List<Integer> walked = new ArrayList<>();
+        try (EntityManager em = EMF.createEntityManager()) {
+            expected = em.createQuery("SELECT p.id FROM Pokemon p WHERE p.alive = TRUE ORDER BY p.hp DESC, p.id",
+                                      Integer.class)
+                    .getResultList();
+            Page<Pokemon> page = PAGER.first(em);
+            while (true) {
+                page.items().forEach(pokemon -> walked.add(pokemon.getId()));
+                em.clear();
+                Optional<String> next = page.next();
+                if (next.isEmpty()) {
+                    break;
+                }
+                page = PAGER.next(em, next.get());
+            }
+        }
+        assertThat(walked, is(expected));
+    }
+
+    @Test
+    public void testInvalidToken() {
+        KeysetPager<Pokemon> byId = KeysetPager.builder(Pokemon.class).pageSize(PAGE_SIZE).build();
+        try (EntityManager em = EMF.createEntityManager()) {
+            String token = byId.first(em).next().orElseThrow();
+            assertThrows(IllegalArgumentException.class, () -> PAGER.next(em, token));
+            assertThrows(IllegalArgumentException.class, () -> PAGER.next(em, "not a token"));
+            assertThrows(IllegalArgumentException.class, () -> byId.next(em, token.substring(0, token.length() - 2)));
+        }
+    }
+
+    @Test
+    public void testDeepPage() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            int depth = 0;
+            String token = null;
+            Page<Pokemon> page = PAGER.first(em);
+            // Token of the last page which has a following page
+            while (page.next().isPresent()) {
+                token = page.next().get();
+                depth += PAGE_SIZE;
+                page = PAGER.next(em, token);
+                em.clear();
+            }
+            String deepToken = token;
+            int offset = depth;
+            for (int i = 0; i < 2; i++) {
+                long start = System.nanoTime();
+                List<Pokemon> keyset = PAGER.next(em, deepToken).items();
+                long keysetTime = System.nanoTime() - start;
+                em.clear();
+                start = System.nanoTime();
+                List<Pokemon> offsetPage = em.createQuery("SELECT p FROM Pokemon p WHERE p.alive = TRUE"
+                                                                  + " ORDER BY p.hp DESC, p.id",
+                                                          Pokemon.class)
+                        .setFirstResult(offset)
+                        .setMaxResults(PAGE_SIZE)
+                        .getResultList();
+                long offsetTime = System.nanoTime() - start;
+                em.clear();
+                assertThat(ids(keyset), is(ids(offsetPage)));
+                LOGGER.log(System.Logger.Level.INFO,
+                           String.format("Page at offset %d: keyset %.2f ms, offset %.2f ms",
+                                         offset, keysetTime / 1e6, offsetTime / 1e6));
+            }
+        }
+    }
+
+    private static List<Integer> ids(List<Pokemon> pokemons) {
+        return pokemons.stream()
+                .map(Pokemon::getId)
+                .toList();
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig config = H2Units.config("keyset", "batching.yaml");
+        EMF = PersistenceUtils.createEmf(config);
+        try (EntityManager em = EMF.createEntityManager()) {
+            InitialData.init(em, GENERATOR);
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.OptimisticRetry;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.RollbackException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Optimistic locking of pokemons and contention benchmark of the retrying update.
+ * Throughput and retry rate are only logged, the test verifies that no update is lost.
+ */
+public class TestOptimisticLocking {
+
+    private static final System.Logger LOGGER = System.getLogger(TestOptimisticLocking.class.getName());
+    private static final int THREADS = 200;
+    private static final int UPDATES = 20;
+    // Hot pokemons updated by all threads
+    private static final int HOT_POKEMONS = 5;
+    private static EntityManagerFactory EMF = null;
+
+    public TestOptimisticLocking() {
+    }
+
+    @Test
+    public void testLostUpdate() {
+        try (EntityManager first = EMF.createEntityManager();
+                EntityManager second = EMF.createEntityManager()) {
+            first.getTransaction().begin();
+            second.getTransaction().begin();
+            Pokemon pokemon = first.find(Pokemon.class, 20);
+            Pokemon stale = second.find(Pokemon.class, 20);
+            pokemon.setHp(pokemon.getHp() + 1);
+            first.getTransaction().commit();
+            stale.setHp(stale.getHp() + 1);
+            RollbackException e = assertThrows(RollbackException.class, () -> second.getTransaction().commit());
+            assertThat(e.getCause(), instanceOf(OptimisticLockException.class));
+        }
+    }
+
+    @Test
+    public void testContention() throws InterruptedException, ExecutionException {
+        OptimisticRetry retry = OptimisticRetry.builder()
+                .maxAttempts(50)
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(50))
+                .build();
+        int before = totalHp();
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        // Platform threads, EclipseLink and H2 wait for locks and connections in monitors, which pin virtual threads
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < UPDATES; j++) {
+                        int id = 1 + ThreadLocalRandom.current().nextInt(HOT_POKEMONS);
+                        retry.updatePokemon(EMF, id, pokemon -> pokemon.setHp(pokemon.getHp() + 1));
+                    }
+                }));
+            }
+        }
+        long time = System.nanoTime() - start;
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        int updates = THREADS * UPDATES;
+        LOGGER.log(System.Logger.Level.INFO,
+                   String.format("%d updates of %d pokemons by %d threads in %d ms, %.0f updates/s,"
+                                         + " %d attempts, %.1f%% retried",
+                                 updates, HOT_POKEMONS, THREADS, time / 1_000_000, updates * 1e9 / time,
+                                 retry.attempts(), 100.0 * retry.conflicts() / retry.attempts()));
+        assertThat(retry.failures(), is(0L));
+        assertThat(totalHp(), is(before + updates));
+    }
+
+    private static int totalHp() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            return em.createQuery("SELECT SUM(p.hp) FROM Pokemon p WHERE p.id <= :last", Long.class)
+                    .setParameter("last", HOT_POKEMONS)
+                    .getSingleResult()
+                    .intValue();
+        }
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig config = H2Units.config("optimistic", "batching.yaml");
+        EMF = PersistenceUtils.createEmf(config);
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
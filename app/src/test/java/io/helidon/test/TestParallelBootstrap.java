@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.jakarta.BootstrapReport;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceConfigException;
+import io.helidon.test.jakarta.PersistenceUnitStartup;
+import io.helidon.test.jakarta.PersistenceUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThrows;
+
+public class TestParallelBootstrap {
+
+    public TestParallelBootstrap() {
+    }
+
+    @Test
+    public void testParallelStartup() throws Exception {
+        List<PersistenceConfig> configs = List.of(unit("parallel-a"), unit("parallel-b"), unit("parallel-c"));
+        ExecutorService executor = Executors.newFixedThreadPool(configs.size());
+        try {
+            long start = System.nanoTime();
+            List<PersistenceUnitStartup> startups = PersistenceUtils.createEmfsAsync(configs, executor)
+                    .get(1, TimeUnit.MINUTES);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            try {
+                // Units are reported in config order with their own startup time
+                assertThat(startups.stream().map(PersistenceUnitStartup::persistenceUnitName).toList(),
+                           contains("parallel-a", "parallel-b", "parallel-c"));
+                for (PersistenceUnitStartup startup : startups) {
+                    assertThat(startup.emf().isOpen(), is(true));
+                    assertThat(startup.startupTime(), greaterThan(Duration.ZERO));
+                    assertThat(startup.startupTime(), lessThanOrEqualTo(elapsed));
+                    BootstrapReport report = startup.emf().unwrap(BootstrapReport.class);
+                    assertThat(report.persistenceUnitName(), is(startup.persistenceUnitName()));
+                    assertThat(report.total(), lessThanOrEqualTo(startup.startupTime()));
+                    startup.emf().runInTransaction(
+                            em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+                }
+            } finally {
+                startups.forEach(startup -> startup.emf().close());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailingUnit() throws Exception {
+        PersistenceConfig failing = PersistenceConfig.builder()
+                .from(unit("parallel-failing"))
+                .jdbcDriverClassName("org.example.MissingDriver")
+                .build();
+        List<PersistenceConfig> configs = List.of(unit("parallel-d"), failing, unit("parallel-e"));
+        ExecutorService executor = Executors.newFixedThreadPool(configs.size());
+        CompletableFuture<List<PersistenceUnitStartup>> future;
+        try {
+            future = PersistenceUtils.createEmfsAsync(configs, executor);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.MINUTES));
+            assertThat(e.getCause(), instanceOf(PersistenceConfigException.class));
+            assertThat(e.getCause().getMessage(), is("Could not bootstrap persistence unit \"parallel-failing\""));
+        } finally {
+            // Units still starting after the failure are closed by the bootstrap tasks
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), is(true));
+        }
+        // Factories of the other units were closed, so only this connection remains open
+        assertThat(sessions("parallel-d"), is(1));
+        assertThat(sessions("parallel-e"), is(1));
+    }
+
+    @Test
+    public void testCancelled() throws Exception {
+        List<PersistenceConfig> configs = List.of(unit("parallel-f"), unit("parallel-g"));
+        ExecutorService executor = Executors.newFixedThreadPool(configs.size());
+        CountDownLatch cancelled = new CountDownLatch(1);
+        try {
+            // Units start only after the caller gave up on the result
+            CompletableFuture<List<PersistenceUnitStartup>> future = PersistenceUtils.createEmfsAsync(
+                    configs, task -> executor.execute(() -> {
+                        awaitUninterruptibly(cancelled);
+                        task.run();
+                    }));
+            assertThat(future.cancel(false), is(true));
+            cancelled.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), is(true));
+        }
+        assertThat(sessions("parallel-f"), is(1));
+        assertThat(sessions("parallel-g"), is(1));
+    }
+
+    @Test
+    public void testSingleUnitTimeout() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch timedOut = new CountDownLatch(1);
+        try {
+            CompletableFuture<EntityManagerFactory> future = PersistenceUtils.createEmfAsync(
+                    unit("parallel-timeout"), task -> executor.execute(() -> {
+                        awaitUninterruptibly(timedOut);
+                        task.run();
+                    }));
+            ExecutionException e = assertThrows(ExecutionException.class,
+                                                () -> future.orTimeout(10, TimeUnit.MILLISECONDS).get());
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            timedOut.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES), is(true));
+        }
+        assertThat(sessions("parallel-timeout"), is(1));
+    }
+
+    @Test
+    public void testSingleUnit() throws Exception {
+        try (EntityManagerFactory emf = PersistenceUtils.createEmfAsync(unit("parallel-single"))
+                .get(1, TimeUnit.MINUTES)) {
+            assertThat(emf.unwrap(BootstrapReport.class).persistenceUnitName(), is("parallel-single"));
+        }
+    }
+
+    @Test
+    public void testInvalidConfig() {
+        // Required connection options are missing
+        Config config = Config.just(ConfigSources.create(Map.of("units.0.persistence-unit-name", "invalid")));
+        CompletableFuture<List<PersistenceUnitStartup>> future = PersistenceUtils.createEmfsAsync(config.get("units"));
+        assertThat(future.isCompletedExceptionally(), is(true));
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertThat(e.getCause(), instanceOf(PersistenceConfigException.class));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PersistenceConfig unit(String name) {
+        return H2Units.config(name, "batching.yaml");
+    }
+
+    // Number of open sessions of the database including the one executing this query
+    private static int sessions(String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(H2Units.connectionString(name), "test", "password");
+                Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+}
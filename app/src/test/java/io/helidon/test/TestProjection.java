@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Function;
+
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.PokemonSummary;
+import io.helidon.test.model.RosterEntry;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.TrainerSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Record projections and their benchmark against the entity path over a generated dataset.
+ * Latency and allocations are only logged, the test verifies results and query counts.
+ */
+public class TestProjection {
+
+    private static final System.Logger LOGGER = System.getLogger(TestProjection.class.getName());
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(11)
+            .pokemons(10000)
+            .chunkSize(1000)
+            .build();
+    private static final int ITERATIONS = 3;
+    private static EntityManagerFactory EMF = null;
+
+    public TestProjection() {
+    }
+
+    @Test
+    public void testAliveSummaries() {
+        List<PokemonSummary> entities = measure("Entities", TestProjection::entitySummaries);
+        List<PokemonSummary> projections = measure("Projections", TestProjection::projectedSummaries);
+        assertThat(projections, is(entities));
+        try (EntityManager em = EMF.createEntityManager()) {
+            SqlCounter.reset();
+            projectedSummaries(em);
+            assertThat(SqlCounter.selects(), is(1));
+        }
+    }
+
+    @Test
+    public void testRoster() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            Trainer trainer = em.find(Trainer.class, 1);
+            List<RosterEntry> expected = trainer.getPokemons().stream()
+                    .map(p -> new RosterEntry(p.getId(), p.getName(), p.getHp(), p.isAlive(), p.getTypeSet()))
+                    .sorted((first, second) -> Integer.compare(first.id(), second.id()))
+                    .toList();
+            em.clear();
+            List<RosterEntry> roster = em.createNamedQuery("Pokemon.roster", RosterEntry.class)
+                    .setParameter("trainer", 1)
+                    .getResultList();
+            assertThat(roster, is(expected));
+        }
+    }
+
+    @Test
+    public void testTrainerSummaries() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            List<TrainerSummary> summaries = em.createNamedQuery("Trainer.summaries", TrainerSummary.class)
+                    .getResultList();
+            assertThat(summaries.size(), is(GENERATOR.count(Trainer.class)));
+            assertThat(summaries.stream().mapToLong(TrainerSummary::pokemons).sum(),
+                       is((long) GENERATOR.count(Pokemon.class)));
+        }
+    }
+
+    private static List<PokemonSummary> entitySummaries(EntityManager em) {
+        return em.createNamedQuery("Pokemon.alive", Pokemon.class)
+                .setParameter("alive", true)
+                .getResultStream()
+                .map(p -> new PokemonSummary(p.getId(), p.getName(), p.getHp(), p.getTrainer().getName()))
+                .sorted((first, second) -> Integer.compare(first.id(), second.id()))
+                .toList();
+    }
+
+    private static List<PokemonSummary> projectedSummaries(EntityManager em) {
+        return em.createNamedQuery("Pokemon.aliveSummaries", PokemonSummary.class)
+                .setParameter("alive", true)
+                .getResultList();
+    }
+
+    private static <T> List<T> measure(String name, Function<EntityManager, List<T>> query) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<T> result = null;
+        long time = 0;
+        long allocated = 0;
+        for (int i = 0; i <= ITERATIONS; i++) {
+            try (EntityManager em = EMF.createEntityManager()) {
+                long bytes = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                result = query.apply(em);
+                // First iteration is the warm up
+                if (i > 0) {
+                    time += System.nanoTime() - start;
+                    allocated += threads.getCurrentThreadAllocatedBytes() - bytes;
+                }
+            }
+        }
+        LOGGER.log(System.Logger.Level.INFO,
+                   String.format("%s: %d rows, %.1f ms and %d kB allocated per query",
+                                 name, result.size(), time / 1e6 / ITERATIONS, allocated / 1024 / ITERATIONS));
+        return result;
+    }
+
+    @BeforeClass
+    public static void before() {
+        // Entity path is measured without the second-level cache, as after a cold start
+        PersistenceConfig.Builder builder = H2Units.builder("projection", "batching.yaml")
+                .sharedCacheMode("NONE");
+        SqlCounter.PROPERTIES.forEach(builder::putProperty);
+        EMF = PersistenceUtils.createEmf(builder.build());
+        try (EntityManager em = EMF.createEntityManager()) {
+            InitialData.init(em, GENERATOR);
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static io.helidon.test.data.InitialData.TRAINERS;
+import static io.helidon.test.data.InitialData.TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Named query result cache and its benchmark.
+ * Throughput is only logged, the test verifies cached results.
+ */
+public class TestQueryCache {
+
+    private static final System.Logger LOGGER = System.getLogger(TestQueryCache.class.getName());
+    private static final Config CONFIG = Config.just(ConfigSources.classpath("query-cache.yaml"));
+    private static final int ITERATIONS = 2000;
+    private static EntityManagerFactory CACHED = null;
+    private static EntityManagerFactory UNCACHED = null;
+
+    public TestQueryCache() {
+    }
+
+    @Test
+    public void testInvalidationOnWrite() {
+        assertThat(alive(CACHED).size(), is(POKEMONS.length - 1));
+        Pokemon pokemon = new Pokemon(200, TRAINERS[1], "Eevee", 55, true, List.of(TYPES[1]));
+        CACHED.runInTransaction(em -> em.persist(pokemon));
+        try {
+            assertThat(alive(CACHED).size(), is(POKEMONS.length));
+        } finally {
+            CACHED.runInTransaction(em -> em.remove(em.find(Pokemon.class, pokemon.getId())));
+        }
+        assertThat(alive(CACHED).size(), is(POKEMONS.length - 1));
+    }
+
+    @Test
+    public void testAliveThroughput() {
+        for (EntityManagerFactory emf : List.of(UNCACHED, CACHED)) {
+            // Warm up
+            alive(emf);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                assertThat(alive(emf).size(), is(POKEMONS.length - 1));
+            }
+            long time = System.nanoTime() - start;
+            LOGGER.log(System.Logger.Level.INFO,
+                       String.format("%s: %d queries in %d ms, %.0f queries/s",
+                                     emf == CACHED ? "Cached" : "Uncached",
+                                     ITERATIONS, time / 1_000_000, ITERATIONS * 1e9 / time));
+        }
+    }
+
+    private static List<Pokemon> alive(EntityManagerFactory emf) {
+        return emf.callInTransaction(em -> em.createNamedQuery("Pokemon.alive", Pokemon.class)
+                .setParameter("alive", true)
+                .getResultList());
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig cached = PersistenceConfig.create(CONFIG);
+        // Same unit on its own database without the result cache
+        PersistenceConfig uncached = PersistenceConfig.builder()
+                .from(cached)
+                .persistenceUnitName("query-uncached")
+                .connectionString(H2Units.connectionString("query-uncached"))
+                .queryCaches(List.of())
+                .build();
+        CACHED = PersistenceUtils.createEmf(cached);
+        CACHED.runInTransaction(InitialData::init);
+        UNCACHED = PersistenceUtils.createEmf(uncached);
+        UNCACHED.runInTransaction(InitialData::init);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (CACHED != null) {
+            CACHED.close();
+        }
+        if (UNCACHED != null) {
+            UNCACHED.close();
+        }
+    }
+
+}
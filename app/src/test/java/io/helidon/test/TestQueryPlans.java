@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.helidon.test.data.DatasetGenerator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Trainer;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Parameter;
+import jakarta.persistence.Query;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Execution plans of all registered named queries over a generated dataset.
+ * Each named query is executed with all combinations of {@link #PARAMETERS} values, and H2 {@code EXPLAIN}
+ * of every SELECT statement it ran, including statements loading related entities, must not scan the whole
+ * of a large table unless the case is listed in {@link #SCANNED_TABLES}.
+ * Parameters are inlined as literals, so the plans match the plans of the executed statements.
+ */
+public class TestQueryPlans {
+
+    private static final DatasetGenerator GENERATOR = DatasetGenerator.builder()
+            .seed(25)
+            .pokemons(Integer.getInteger("plans.pokemons", 20000))
+            .chunkSize(1000)
+            .build();
+    // Realistic values of named query parameters, new named query parameter must be added here
+    private static final Map<String, List<Object>> PARAMETERS = Map.of(
+            "alive", List.of(true, false),
+            "trainer", List.of(1, GENERATOR.count(Trainer.class)));
+    private static final Set<String> LARGE_TABLES = Set.of("POKEMNON", "POKEMNON_TYPE", "TRAINER");
+    // Cases reading all or most rows of a table on purpose, keyed by query name and parameters
+    private static final Map<String, Set<String>> SCANNED_TABLES = Map.of(
+            // Aggregates all trainers
+            "Trainer.summaries{}", Set.of("TRAINER"),
+            // 95% of generated pokemons are alive, scan is cheaper than index lookups of almost all rows
+            "Pokemon.alive{alive=true}", Set.of("POKEMNON"),
+            "Pokemon.aliveSummaries{alive=true}", Set.of("POKEMNON"));
+    // Statements differing only in numeric literals, such as IDs of loaded relationships, share the plan
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+    // H2 marks full scan of a table as /* PUBLIC.TABLE.tableScan */
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\*\\s*([^*\\s]+)\\.tableScan");
+    private static EntityManagerFactory EMF = null;
+
+    public TestQueryPlans() {
+    }
+
+    @Test
+    public void testNoFullScan() {
+        Set<String> names = new TreeSet<>(EMF.getNamedQueries(Object.class).keySet());
+        assertThat(names, is(not(empty())));
+        List<String> failures = new ArrayList<>();
+        try (EntityManager em = EMF.createEntityManager()) {
+            for (String name : names) {
+                for (Map<String, Object> parameters : parameters(em.createNamedQuery(name), name)) {
+                    String key = name + parameters;
+                    SqlCounter.reset();
+                    Query query = em.createNamedQuery(name);
+                    parameters.forEach(query::setParameter);
+                    query.getResultList();
+                    em.clear();
+                    Map<String, String> statements = new LinkedHashMap<>();
+                    SqlCounter.statements()
+                            .forEach(sql -> statements.putIfAbsent(NUMBER.matcher(sql).replaceAll("?"), sql));
+                    for (String sql : statements.values()) {
+                        String plan = String.valueOf(em.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+                        for (String table : scannedTables(plan)) {
+                            if (LARGE_TABLES.contains(table)
+                                    && !SCANNED_TABLES.getOrDefault(key, Set.of()).contains(table)) {
+                                failures.add(String.format("%s scans %s table: %s", key, table, plan));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        assertThat(String.join("\n", failures), failures, is(empty()));
+    }
+
+    // All combinations of parameter values, sorted by parameter name
+    private static List<Map<String, Object>> parameters(Query query, String name) {
+        List<Map<String, Object>> combinations = List.of(new TreeMap<>());
+        for (Parameter<?> parameter : query.getParameters()) {
+            List<Object> values = PARAMETERS.get(parameter.getName());
+            assertThat(String.format("No values of %s parameter of %s", parameter.getName(), name),
+                       values != null, is(true));
+            List<Map<String, Object>> next = new ArrayList<>();
+            for (Map<String, Object> combination : combinations) {
+                for (Object value : values) {
+                    Map<String, Object> extended = new TreeMap<>(combination);
+                    extended.put(parameter.getName(), value);
+                    next.add(extended);
+                }
+            }
+            combinations = next;
+        }
+        return combinations;
+    }
+
+    private static Set<String> scannedTables(String plan) {
+        Set<String> tables = new TreeSet<>();
+        Matcher matcher = TABLE_SCAN.matcher(plan);
+        while (matcher.find()) {
+            String table = matcher.group(1).replace("\"", "");
+            tables.add(table.substring(table.lastIndexOf('.') + 1).toUpperCase(Locale.ROOT));
+        }
+        return tables;
+    }
+
+    @BeforeClass
+    public static void before() {
+        // Plans are checked with literal values, cached results would hide the statements
+        PersistenceConfig.Builder builder = H2Units.builder("query-plans", "batching.yaml")
+                .sharedCacheMode("NONE")
+                .putProperty("eclipselink.jdbc.bind-parameters", "false")
+                .putProperty("eclipselink.target-database", H2BooleanPlatform.class.getName());
+        SqlCounter.PROPERTIES.forEach(builder::putProperty);
+        EMF = PersistenceUtils.createEmf(builder.build());
+        try (EntityManager em = EMF.createEntityManager()) {
+            InitialData.init(em, GENERATOR);
+        }
+        // Optimizer uses statistics of the generated data instead of default selectivity
+        EMF.runInTransaction(em -> em.createNativeQuery("ANALYZE").executeUpdate());
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.jakarta.ReadReplicasConfig;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class TestReadReplicas {
+
+    // Marks Pokemon rows in the replica databases
+    private static final int REPLICA_HP = 1;
+    private static final int SECOND_REPLICA_HP = 2;
+    private static final String SECOND_REPLICA = H2Units.connectionString("replica-2");
+    private static final Config CONFIG = Config.just(ConfigSources.classpath("replicas.yaml"));
+    private static EntityManagerFactory EMF = null;
+
+    public TestReadReplicas() {
+    }
+
+    @Test
+    public void testReadOnlyQueryUsesReplica() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            List<Integer> hps = readOnlyHps(em);
+            assertThat(hps.size(), is(POKEMONS.length - 1));
+            assertThat(hps, everyItem(is(REPLICA_HP)));
+        }
+    }
+
+    @Test
+    public void testQueryUsesPrimary() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            List<Integer> hps = em.createNamedQuery("Pokemon.alive", Pokemon.class)
+                    .setParameter("alive", true)
+                    .getResultList()
+                    .stream()
+                    .map(Pokemon::getHp)
+                    .toList();
+            assertThat(hps.size(), is(POKEMONS.length - 1));
+            assertThat(hps, everyItem(not(REPLICA_HP)));
+        }
+    }
+
+    @Test
+    public void testTransactionUsesPrimary() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                // Flush starts database transaction
+                em.flush();
+                assertThat(readOnlyHps(em), everyItem(not(REPLICA_HP)));
+            } finally {
+                et.rollback();
+            }
+        }
+    }
+
+    @Test
+    public void testTransactionWithoutFlushUsesPrimary() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            EntityTransaction et = em.getTransaction();
+            et.begin();
+            try {
+                // Nothing was written, database transaction must start with the JPA transaction
+                assertThat(readOnlyHps(em), everyItem(not(REPLICA_HP)));
+            } finally {
+                et.rollback();
+            }
+        }
+    }
+
+    @Test
+    public void testCursorUsesPrimary() {
+        try (EntityManager em = EMF.createEntityManager()) {
+            Cursor cursor = (Cursor) em.createNamedQuery("Pokemon.alive")
+                    .setParameter("alive", true)
+                    .setHint("eclipselink.read-only", true)
+                    .setHint("eclipselink.cursor", true)
+                    .getSingleResult();
+            try {
+                List<Integer> hps = new ArrayList<>();
+                while (cursor.hasNext()) {
+                    hps.add(((Pokemon) cursor.next()).getHp());
+                }
+                assertThat(hps.size(), is(POKEMONS.length - 1));
+                assertThat(hps, everyItem(not(REPLICA_HP)));
+            } finally {
+                cursor.close();
+            }
+        }
+    }
+
+    @Test
+    public void testLeastLoadedRouting() {
+        PersistenceConfig primary = PersistenceConfig.create(CONFIG.get("primary"));
+        PersistenceConfig config = PersistenceConfig.builder()
+                .from(primary)
+                .persistenceUnitName("least-loaded")
+                .connectionString(H2Units.connectionString("least-loaded"))
+                .readReplicas(ReadReplicasConfig.builder()
+                                      .from(primary.readReplicas().orElseThrow())
+                                      .addConnectionString(SECOND_REPLICA)
+                                      .routing("LEAST_LOADED")
+                                      .build())
+                .build();
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            emf.runInTransaction(InitialData::init);
+            // Idle replicas are equally loaded, the first one is selected every time
+            assertThat(readOnlyHps(emf), everyItem(is(REPLICA_HP)));
+            assertThat(readOnlyHps(emf), everyItem(is(REPLICA_HP)));
+            // Connection taken from the first replica pool keeps it in use
+            ConnectionPool firstReplica = emf.unwrap(ServerSession.class).getConnectionPool("replica-0");
+            Accessor connection = firstReplica.acquireConnection();
+            try {
+                assertThat(readOnlyHps(emf), everyItem(is(SECOND_REPLICA_HP)));
+            } finally {
+                firstReplica.releaseConnection(connection);
+            }
+            assertThat(readOnlyHps(emf), everyItem(is(REPLICA_HP)));
+        }
+    }
+
+    private static TypedQuery<Pokemon> readOnlyQuery(EntityManager em) {
+        return em.createNamedQuery("Pokemon.alive", Pokemon.class)
+                .setParameter("alive", true)
+                .setHint("eclipselink.read-only", true);
+    }
+
+    // New entity manager, so the entities are not taken from the persistence context of earlier queries
+    private static List<Integer> readOnlyHps(EntityManagerFactory emf) {
+        try (EntityManager em = emf.createEntityManager()) {
+            return readOnlyHps(em);
+        }
+    }
+
+    private static List<Integer> readOnlyHps(EntityManager em) {
+        return readOnlyQuery(em).getResultList()
+                .stream()
+                .map(Pokemon::getHp)
+                .toList();
+    }
+
+    @BeforeClass
+    public static void before() {
+        PersistenceConfig replica = PersistenceConfig.create(CONFIG.get("replica"));
+        replica(replica, REPLICA_HP);
+        replica(PersistenceConfig.builder()
+                        .from(replica)
+                        .persistenceUnitName("replica-2")
+                        .connectionString(SECOND_REPLICA)
+                        .build(),
+                SECOND_REPLICA_HP);
+        EMF = PersistenceUtils.createEmf(PersistenceConfig.create(CONFIG.get("primary")));
+        EMF.runInTransaction(InitialData::init);
+    }
+
+    // Replica gets the same data with modified hp
+    private static void replica(PersistenceConfig config, int hp) {
+        try (EntityManagerFactory replica = PersistenceUtils.createEmf(config)) {
+            replica.runInTransaction(em -> {
+                InitialData.init(em);
+                em.flush();
+                em.createQuery("UPDATE Pokemon p SET p.hp = :hp")
+                        .setParameter("hp", hp)
+                        .executeUpdate();
+            });
+        }
+    }
+
+    @AfterClass
+    public static void after() {
+        if (EMF != null) {
+            EMF.close();
+        }
+    }
+
+}
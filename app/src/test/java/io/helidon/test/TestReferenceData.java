@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.ReferenceCatalog;
+import io.helidon.test.jakarta.BootstrapReport;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.jakarta.ReferenceData;
+import io.helidon.test.model.League;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.REGIONS;
+import static io.helidon.test.data.InitialData.TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TestReferenceData {
+
+    public TestReferenceData() {
+    }
+
+    @Test
+    public void testReferenceData() {
+        PersistenceConfig config = H2Units.builder("reference-data", "batching.yaml")
+                .addReferenceEntity(Type.class.getName())
+                .addReferenceEntity(Region.class.getName())
+                .build();
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            assertThat(emf.unwrap(BootstrapReport.class).phase(BootstrapReport.REFERENCE_DATA).isPresent(), is(true));
+            emf.runInTransaction(InitialData::init);
+            ReferenceData referenceData = emf.unwrap(ReferenceData.class);
+            assertThat(referenceData.refresh(), is(Map.of(Type.class.getName(), TYPES.length - 1,
+                                                          Region.class.getName(), REGIONS.length - 1)));
+            assertThat(emf.getCache().contains(Type.class, 1), is(true));
+
+            ReferenceCatalog catalog = ReferenceCatalog.create(emf);
+            assertThat(catalog.types().size(), is(TYPES.length - 1));
+            for (int id = 1; id < TYPES.length; id++) {
+                assertThat(catalog.type(id), is(TYPES[id]));
+            }
+            assertThat(catalog.type(0), nullValue());
+            assertThat(catalog.type(TYPES.length), nullValue());
+            assertThat(catalog.league(1), notNullValue());
+            assertThat(catalog.league(1).getRegion(), sameInstance(catalog.region(catalog.league(1).getRegion().getId())));
+
+            emf.runInTransaction(em -> em.find(Type.class, 1).setName("Plain"));
+            assertThat(catalog.type(1).getName(), is(TYPES[1].getName()));
+            catalog.refresh();
+            assertThat(catalog.type(1).getName(), is("Plain"));
+        }
+    }
+
+    @Test
+    public void testNoSelects() {
+        PersistenceConfig.Builder builder = H2Units.builder("reference-selects", "batching.yaml")
+                .addReferenceEntity(Type.class.getName())
+                .addReferenceEntity(Region.class.getName())
+                .addReferenceEntity(Team.class.getName());
+        SqlCounter.PROPERTIES.forEach(builder::putProperty);
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(builder.build())) {
+            emf.runInTransaction(InitialData::init);
+            emf.unwrap(ReferenceData.class).refresh();
+
+            SqlCounter.reset();
+            emf.runInTransaction(em -> {
+                for (int id = 1; id < TYPES.length; id++) {
+                    assertThat(em.find(Type.class, id).getName(), is(TYPES[id].getName()));
+                }
+            });
+            assertThat(SqlCounter.selects(), is(0));
+
+            // Only owners of the references are read, references resolve from the cache
+            SqlCounter.reset();
+            emf.runInTransaction(em -> {
+                List<Trainer> trainers = em.createQuery("SELECT t FROM Trainer t", Trainer.class).getResultList();
+                assertThat(trainers.size(), greaterThan(0));
+                trainers.forEach(trainer -> assertThat(trainer.getTeam().getName(), notNullValue()));
+                List<League> leagues = em.createQuery("SELECT l FROM League l", League.class).getResultList();
+                assertThat(leagues.size(), greaterThan(0));
+                leagues.forEach(league -> assertThat(league.getRegion().getName(), notNullValue()));
+            });
+            assertThat(SqlCounter.selects(), is(2));
+            assertThat(SqlCounter.statements(), everyItem(not(containsString("FROM TEAM"))));
+            assertThat(SqlCounter.statements(), everyItem(not(containsString("FROM REGION"))));
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.time.Duration;
+
+import io.helidon.test.jakarta.BatchWritingConfig;
+import io.helidon.test.jakarta.BootstrapReport;
+import io.helidon.test.jakarta.ConnectionPoolConfig;
+import io.helidon.test.jakarta.EntityCacheConfig;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.jakarta.PoolConfig;
+import io.helidon.test.jakarta.QueryCacheConfig;
+import io.helidon.test.jakarta.RuntimeTuning;
+import io.helidon.test.jakarta.TuningResult;
+import io.helidon.test.model.Pokemon;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+public class TestRuntimeTuning {
+
+    public TestRuntimeTuning() {
+    }
+
+    @Test
+    public void testApply() {
+        PersistenceConfig config = H2Units.config("tuning", "query-cache.yaml");
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            RuntimeTuning tuning = emf.unwrap(RuntimeTuning.class);
+            PersistenceConfig tuned = PersistenceConfig.builder()
+                    .from(config)
+                    .connectionString(H2Units.connectionString("tuning-moved"))
+                    .queryTimeout(Duration.ofSeconds(5))
+                    .connectionPool(ConnectionPoolConfig.builder()
+                                            .write(PoolConfig.builder().max(4).build())
+                                            .build())
+                    .queryCaches(config.queryCaches().stream()
+                                         .map(cache -> QueryCacheConfig.builder()
+                                                 .from(cache)
+                                                 .ttl(Duration.ofSeconds(10))
+                                                 .build())
+                                         .toList())
+                    .build();
+            TuningResult result = tuning.apply(tuned);
+            assertThat(result.applied(), containsInAnyOrder("query-timeout",
+                                                            "connection-pool.write.max",
+                                                            "query-caches[Pokemon.alive].ttl"));
+            // Pool statistics are collected only when the unit started with a pool config
+            assertThat(result.restartRequired(), containsInAnyOrder("connection-string",
+                                                                    "connection-pool.statistics"));
+            assertThat(tuning.config().connectionString(), is(tuned.connectionString()));
+            // Emf keeps working with the applied tunables
+            emf.runInTransaction(em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+        }
+    }
+
+    @Test
+    public void testLiveOptions() {
+        PersistenceConfig config = H2Units.builder("tuning-live", "query-cache.yaml")
+                .connectionPool(ConnectionPoolConfig.builder()
+                                        .write(pool(2, 8, Duration.ofSeconds(10)))
+                                        .read(pool(2, 8, Duration.ofSeconds(10)))
+                                        .build())
+                .addEntityCache(EntityCacheConfig.builder()
+                                        .entityClass(Pokemon.class.getName())
+                                        .expiry(Duration.ofMinutes(1))
+                                        .build())
+                .queryTimeout(Duration.ofSeconds(10))
+                .batchWriting(BatchWritingConfig.builder().size(100).build())
+                .build();
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            RuntimeTuning tuning = emf.unwrap(RuntimeTuning.class);
+            PersistenceConfig tuned = PersistenceConfig.builder()
+                    .from(config)
+                    .connectionPool(ConnectionPoolConfig.builder()
+                                            .write(pool(3, 12, Duration.ofSeconds(20)))
+                                            .read(pool(4, 16, Duration.ofSeconds(30)))
+                                            .build())
+                    .entityCaches(config.entityCaches().stream()
+                                          .map(cache -> EntityCacheConfig.builder()
+                                                  .from(cache)
+                                                  .expiry(Duration.ofMinutes(2))
+                                                  .build())
+                                          .toList())
+                    .queryCaches(config.queryCaches().stream()
+                                         .map(cache -> QueryCacheConfig.builder()
+                                                 .from(cache)
+                                                 .ttl(Duration.ofSeconds(30))
+                                                 .build())
+                                         .toList())
+                    .queryTimeout(Duration.ofSeconds(5))
+                    .batchWriting(BatchWritingConfig.builder().size(50).build())
+                    .build();
+            TuningResult result = tuning.apply(tuned);
+            assertThat(result.applied(), containsInAnyOrder("connection-pool.write.min",
+                                                            "connection-pool.write.max",
+                                                            "connection-pool.write.wait-timeout",
+                                                            "connection-pool.read.min",
+                                                            "connection-pool.read.max",
+                                                            "connection-pool.read.wait-timeout",
+                                                            "entity-caches[" + Pokemon.class.getName() + "].expiry",
+                                                            "query-caches[Pokemon.alive].ttl",
+                                                            "query-timeout",
+                                                            "batch-writing.size"));
+            assertThat(result.restartRequired(), is(empty()));
+
+            ServerSession server = emf.unwrap(ServerSession.class);
+            assertPool(server.getDefaultConnectionPool(), 3, 12, Duration.ofSeconds(20));
+            assertPool(server.getReadConnectionPool(), 4, 16, Duration.ofSeconds(30));
+            assertTimeToLive(server.getDescriptor(Pokemon.class).getCacheInvalidationPolicy(), Duration.ofMinutes(2));
+            ReadQuery alive = (ReadQuery) server.getQuery("Pokemon.alive");
+            assertTimeToLive(alive.getQueryResultsCachePolicy().getCacheInvalidationPolicy(), Duration.ofSeconds(30));
+            assertThat(server.getQueryTimeoutDefault(), is(5000));
+            assertThat(server.getLogin().getMaxBatchWritingSize(), is(50));
+            emf.runInTransaction(em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+        }
+    }
+
+    @Test
+    public void testQueryCacheSizeRequiresRestart() {
+        PersistenceConfig config = H2Units.config("tuning-size", "query-cache.yaml");
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            RuntimeTuning tuning = emf.unwrap(RuntimeTuning.class);
+            PersistenceConfig tuned = PersistenceConfig.builder()
+                    .from(config)
+                    .queryCaches(config.queryCaches().stream()
+                                         .map(cache -> QueryCacheConfig.builder()
+                                                 .from(cache)
+                                                 .size(cache.size() * 2)
+                                                 .build())
+                                         .toList())
+                    .build();
+            TuningResult result = tuning.apply(tuned);
+            assertThat(result.applied(), is(empty()));
+            assertThat(result.restartRequired(), containsInAnyOrder("query-caches[Pokemon.alive].size"));
+        }
+    }
+
+    @Test
+    public void testWithoutEclipseLinkOptions() {
+        // Only standard options, EclipseLink still deploys in createEmf
+        PersistenceConfig config = PersistenceConfig.builder()
+                .persistenceUnitName("plain")
+                .connectionString(H2Units.connectionString("plain"))
+                .username("test")
+                .password("password".toCharArray())
+                .jdbcDriverClassName("org.h2.Driver")
+                .putProperty("jakarta.persistence.schema-generation.database.action", "drop-and-create")
+                .build();
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            BootstrapReport report = emf.unwrap(BootstrapReport.class);
+            assertThat(report.phase(BootstrapReport.METADATA).isPresent(), is(true));
+            assertThat(report.phase(BootstrapReport.CONNECTION).isPresent(), is(true));
+            assertThat(report.phase(BootstrapReport.SCHEMA_GENERATION).isPresent(), is(true));
+            emf.runInTransaction(em -> em.createNamedQuery("Pokemon.alive").setParameter("alive", true).getResultList());
+        }
+    }
+
+    private static PoolConfig pool(int min, int max, Duration waitTimeout) {
+        return PoolConfig.builder()
+                .min(min)
+                .max(max)
+                .waitTimeout(waitTimeout)
+                .build();
+    }
+
+    private static void assertPool(ConnectionPool pool, int min, int max, Duration waitTimeout) {
+        assertThat(pool.getMinNumberOfConnections(), is(min));
+        assertThat(pool.getMaxNumberOfConnections(), is(max));
+        assertThat(pool.getWaitTimeout(), is((int) waitTimeout.toMillis()));
+    }
+
+    private static void assertTimeToLive(Object policy, Duration ttl) {
+        assertThat(policy, instanceOf(TimeToLiveCacheInvalidationPolicy.class));
+        assertThat(((TimeToLiveCacheInvalidationPolicy) policy).getTimeToLive(), is(ttl.toMillis()));
+    }
+
+}
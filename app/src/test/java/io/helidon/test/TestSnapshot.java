@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.test.data.IdAllocator;
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.Snapshot;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Creature;
+import io.helidon.test.model.League;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.Region;
+import io.helidon.test.model.Team;
+import io.helidon.test.model.Trainer;
+import io.helidon.test.model.Type;
+import io.helidon.test.model.TypeSetConverter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+
+public class TestSnapshot {
+
+    public TestSnapshot() {
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try (EntityManagerFactory source = createEmf("snapshot-source");
+                EntityManagerFactory target = createEmf("snapshot-target")) {
+            source.runInTransaction(InitialData::init);
+            Map<String, Long> written;
+            try (EntityManager em = source.createEntityManager()) {
+                written = Snapshot.write(em, file);
+            }
+            try (EntityManager em = target.createEntityManager()) {
+                assertThat(Snapshot.restore(em, file), is(written));
+                assertThat(InitialData.verify(em), is(true));
+                // Restore replaces existing content
+                assertThat(Snapshot.restore(em, file), is(written));
+                assertThat(InitialData.verify(em), is(true));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testRestartsSequences() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try (EntityManagerFactory source = createEmf("snapshot-sequence-source");
+                EntityManagerFactory target = createEmf("snapshot-sequence-target")) {
+            source.runInTransaction(InitialData::init);
+            // Beyond the block reserved in the target before the restore
+            source.runInTransaction(em -> em.persist(new Trainer(1000, "Gary", em.find(Trainer.class, 1).getTeam())));
+            try (EntityManager em = source.createEntityManager()) {
+                Snapshot.write(em, file);
+            }
+            target.runInTransaction(InitialData::init);
+            IdAllocator.builder(target).blockSize(10).build().next(Trainer.class);
+            try (EntityManager em = target.createEntityManager()) {
+                Snapshot.restore(em, file);
+                assertThat(IdAllocator.reset(em), is(1));
+            }
+            assertThat(IdAllocator.builder(target).blockSize(10).build().next(Trainer.class), greaterThan(1000));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testWithoutSequences() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        // Unit without IdAllocator sequence table
+        PersistenceConfig config = H2Units.builder("snapshot-no-sequence", "batching.yaml")
+                .managedClasses(List.of(Creature.class.getName(),
+                                        League.class.getName(),
+                                        Pokemon.class.getName(),
+                                        Region.class.getName(),
+                                        Team.class.getName(),
+                                        Trainer.class.getName(),
+                                        Type.class.getName(),
+                                        TypeSetConverter.class.getName()))
+                .build();
+        try (EntityManagerFactory source = createEmf("snapshot-no-sequence-source");
+                EntityManagerFactory target = PersistenceUtils.createEmf(config)) {
+            source.runInTransaction(InitialData::init);
+            Map<String, Long> written;
+            try (EntityManager em = source.createEntityManager()) {
+                written = Snapshot.write(em, file);
+            }
+            try (EntityManager em = target.createEntityManager()) {
+                assertThat(Snapshot.restore(em, file), is(written));
+                assertThat(InitialData.verify(em), is(true));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testUnknownTable() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try (EntityManagerFactory emf = createEmf("snapshot-unknown")) {
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+                out.writeInt(0x48545350);
+                out.writeInt(Snapshot.VERSION);
+                try (DataOutputStream data = new DataOutputStream(new GZIPOutputStream(out))) {
+                    data.writeInt(1);
+                    data.writeUTF("ACCOUNT; DROP TABLE TRAINER");
+                }
+            }
+            emf.runInTransaction(InitialData::init);
+            try (EntityManager em = emf.createEntityManager()) {
+                assertThrows(IllegalArgumentException.class, () -> Snapshot.restore(em, file));
+                // Deleted rows were rolled back
+                assertThat(InitialData.verify(em), is(true));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static EntityManagerFactory createEmf(String name) {
+        return PersistenceUtils.createEmf(H2Units.config(name, "batching.yaml"));
+    }
+
+}
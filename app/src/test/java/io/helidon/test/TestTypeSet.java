@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.helidon.test.data.InitialData;
+import io.helidon.test.data.TypeFilter;
+import io.helidon.test.jakarta.PersistenceConfig;
+import io.helidon.test.jakarta.PersistenceUtils;
+import io.helidon.test.model.Pokemon;
+import io.helidon.test.model.TypeSet;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.Test;
+
+import static io.helidon.test.data.InitialData.POKEMONS;
+import static io.helidon.test.data.InitialData.TYPES;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TestTypeSet {
+
+    public TestTypeSet() {
+    }
+
+    @Test
+    public void testMask() {
+        TypeSet types = TypeSet.of(List.of(TYPES[3], TYPES[10]));
+        assertThat(types.mask(), is(0b10_0000_0100));
+        assertThat(types.ids(), is(new int[] {3, 10}));
+        assertThat(types.contains(TYPES[10]), is(true));
+        assertThat(types.contains(1), is(false));
+        assertThat(TypeSet.ofMask(types.mask()), is(types));
+        assertThat(TypeSet.of(List.of()), is(TypeSet.EMPTY));
+    }
+
+    @Test
+    public void testFilter() {
+        PersistenceConfig config = H2Units.config("type-set", "batching.yaml");
+        try (EntityManagerFactory emf = PersistenceUtils.createEmf(config)) {
+            emf.runInTransaction(InitialData::init);
+            TypeFilter filter = TypeFilter.create(emf);
+            try (EntityManager em = emf.createEntityManager()) {
+                for (int id = 1; id < POKEMONS.length; id++) {
+                    Pokemon pokemon = em.find(Pokemon.class, id);
+                    assertThat(pokemon.getTypeSet(), is(TypeSet.of(pokemon.getTypes())));
+                }
+                for (int id = 1; id < TYPES.length; id++) {
+                    TypeSet types = TypeSet.ofIds(id);
+                    assertThat(ids(filter.anyOf(em, types).getResultList()), is(expected(types, true)));
+                    assertThat(ids(filter.noneOf(em, types).getResultList()), is(expected(types, false)));
+                }
+                TypeSet dual = POKEMONS[1].getTypeSet();
+                assertThat(ids(filter.allOf(em, dual).getResultList()),
+                           is(Arrays.stream(POKEMONS, 1, POKEMONS.length)
+                                      .filter(pokemon -> (pokemon.getTypeSet().mask() & dual.mask()) == dual.mask())
+                                      .map(Pokemon::getId)
+                                      .toList()));
+            }
+        }
+    }
+
+    private static List<Integer> expected(TypeSet types, boolean any) {
+        return Arrays.stream(POKEMONS, 1, POKEMONS.length)
+                .filter(pokemon -> pokemon.getTypes().stream().anyMatch(types::contains) == any)
+                .map(Pokemon::getId)
+                .toList();
+    }
+
+    private static List<Integer> ids(List<Pokemon> pokemons) {
+        return pokemons.stream()
+                .map(Pokemon::getId)
+                .toList();
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.test.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes index of Jakarta Persistence managed classes.
+ * Each line of the {@value #INDEX_RESOURCE} resource contains binary name of a class annotated
+ * with {@code @Entity}, {@code @MappedSuperclass}, {@code @Embeddable} or {@code @Converter}.
+ * Index from previous compilation is merged, so incremental builds keep classes which were not recompiled.
+ */
+@SupportedAnnotationTypes({
+        ManagedClassIndexProcessor.ENTITY,
+        ManagedClassIndexProcessor.MAPPED_SUPERCLASS,
+        ManagedClassIndexProcessor.EMBEDDABLE,
+        ManagedClassIndexProcessor.CONVERTER
+})
+public class ManagedClassIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Managed classes index resource name.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/helidon-test/managed-classes";
+
+    static final String ENTITY = "jakarta.persistence.Entity";
+    static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+    static final String EMBEDDABLE = "jakarta.persistence.Embeddable";
+    static final String CONVERTER = "jakarta.persistence.Converter";
+
+    private final Set<String> classes;
+
+    /**
+     * Creates an instance of the processor. Called by the compiler.
+     */
+    public ManagedClassIndexProcessor() {
+        this.classes = new TreeSet<>();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    classes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !classes.isEmpty()) {
+            readPreviousIndex();
+            writeIndex();
+        }
+        // Annotations are not claimed, other processors may handle them too
+        return false;
+    }
+
+    private void readPreviousIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(index.openInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty())
+                        .filter(this::stillManaged)
+                        .forEach(classes::add);
+            }
+        } catch (IOException e) {
+            // No index from previous compilation
+        }
+    }
+
+    // Class from previous index must still exist and still carry one of the supported annotations
+    private boolean stillManaged(String className) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+        if (type == null) {
+            return false;
+        }
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (ENTITY.equals(name) || MAPPED_SUPERCLASS.equals(name) || EMBEDDABLE.equals(name)
+                    || CONVERTER.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Writer writer = index.openWriter()) {
+                for (String className : classes) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("Could not write managed classes index %s: %s", INDEX_RESOURCE, e.getMessage()));
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+module io.helidon.test.processor {
+
+    requires java.compiler;
+
+    exports io.helidon.test.processor;
+
+    provides javax.annotation.processing.Processor with io.helidon.test.processor.ManagedClassIndexProcessor;
+
+}